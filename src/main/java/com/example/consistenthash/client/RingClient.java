@@ -0,0 +1,165 @@
+package com.example.consistenthash.client;
+
+import com.example.consistenthash.model.Node;
+import com.example.consistenthash.service.RingSnapshotFormat;
+import com.example.consistenthash.service.hash.HashFunction;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 내보낸 링 스냅샷(RingSnapshotFormat)으로 프로세스 안에서 담당 노드를 찾는 경량 클라이언트
+ * 토큰과 소유 노드 인덱스는 버퍼 뷰로 직접 읽으므로, 파일을 메모리 매핑하면 힙에 복사하지 않음.
+ * 불변이며 여러 스레드에서 동시에 조회 가능. 토폴로지가 바뀌면 새 스냅샷을 받아 새 인스턴스로 교체.
+ */
+public final class RingClient {
+
+    private final long epoch;
+    private final HashFunction hashFunction;
+    private final Node[] nodes;
+    private final LongBuffer tokens; // 오름차순 정렬된 토큰
+    private final IntBuffer owners; // 토큰별 소유 노드 인덱스
+
+    private RingClient(long epoch, HashFunction hashFunction, Node[] nodes, LongBuffer tokens, IntBuffer owners) {
+        this.epoch = epoch;
+        this.hashFunction = hashFunction;
+        this.nodes = nodes;
+        this.tokens = tokens;
+        this.owners = owners;
+    }
+
+    /**
+     * 바이트 배열에서 스냅샷 로드
+     */
+    public static RingClient load(byte[] data) {
+        return parse(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * 스트림(예: /ring/export 응답 본문)을 끝까지 읽어 스냅샷 로드
+     */
+    public static RingClient load(InputStream in) throws IOException {
+        return load(in.readAllBytes());
+    }
+
+    /**
+     * 파일을 읽기 전용으로 메모리 매핑하여 스냅샷 로드 (토큰 배열을 힙에 올리지 않음)
+     */
+    public static RingClient map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    private static RingClient parse(ByteBuffer buffer) {
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        try {
+            if (buffer.getInt() != RingSnapshotFormat.MAGIC) {
+                throw new IllegalArgumentException("링 스냅샷 형식이 아닙니다");
+            }
+            short version = buffer.getShort();
+            if (version != RingSnapshotFormat.VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 링 스냅샷 버전입니다: " + version);
+            }
+
+            long epoch = buffer.getLong();
+            HashFunction hashFunction = HashFunction.of(getString(buffer));
+
+            Node[] nodes = new Node[buffer.getInt()];
+            for (int n = 0; n < nodes.length; n++) {
+                String id = getString(buffer);
+                String host = getString(buffer);
+                int port = buffer.getInt();
+                int weight = buffer.getInt();
+                nodes[n] = new Node(id, host, port, weight);
+            }
+
+            int tokenCount = buffer.getInt();
+            if (tokenCount < 0 || (long) tokenCount * 12 > buffer.remaining()) {
+                throw new IllegalArgumentException("토큰 수가 올바르지 않습니다: " + tokenCount);
+            }
+
+            LongBuffer tokens = buffer.slice().order(ByteOrder.BIG_ENDIAN).asLongBuffer();
+            tokens.limit(tokenCount);
+            buffer.position(buffer.position() + tokenCount * 8);
+            IntBuffer owners = buffer.slice().order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+            owners.limit(tokenCount);
+
+            for (int i = 0; i < tokenCount; i++) {
+                int owner = owners.get(i);
+                if (owner < 0 || owner >= nodes.length) {
+                    throw new IllegalArgumentException("토큰 소유 노드 인덱스가 올바르지 않습니다: " + owner);
+                }
+            }
+
+            return new RingClient(epoch, hashFunction, nodes, tokens, owners);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("링 스냅샷 데이터가 잘렸습니다", e);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 키의 담당 노드 (서버의 ConsistentHash.getNode와 같은 결과, 링이 비어 있으면 null)
+     */
+    public Node getNode(CharSequence key) {
+        int size = tokens.limit();
+        if (size == 0) {
+            return null;
+        }
+
+        long hash = hashFunction.hash(key);
+
+        // 해시 값 이상인 첫 토큰 (없으면 링의 처음)
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long token = tokens.get(mid);
+            if (token < hash) {
+                low = mid + 1;
+            } else if (token > hash) {
+                high = mid - 1;
+            } else {
+                return nodes[owners.get(mid)];
+            }
+        }
+
+        return nodes[owners.get(low == size ? 0 : low)];
+    }
+
+    /**
+     * 스냅샷의 링 변경 번호 (서버의 ETag와 같은 번호)
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public HashFunction getHashFunction() {
+        return hashFunction;
+    }
+
+    public List<Node> getNodes() {
+        return Arrays.asList(nodes.clone());
+    }
+
+    public int getNodeCount() {
+        return nodes.length;
+    }
+
+    public int getTokenCount() {
+        return tokens.limit();
+    }
+}
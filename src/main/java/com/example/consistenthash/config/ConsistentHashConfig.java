@@ -0,0 +1,61 @@
+package com.example.consistenthash.config;
+
+import com.example.consistenthash.service.AnchorHash;
+import com.example.consistenthash.service.ConcurrencyMode;
+import com.example.consistenthash.service.ConsistentHash;
+import com.example.consistenthash.service.ConsistentHashEngine;
+import com.example.consistenthash.service.JumpConsistentHash;
+import com.example.consistenthash.service.MaglevHash;
+import com.example.consistenthash.service.MultiProbeConsistentHash;
+import com.example.consistenthash.service.RendezvousHash;
+import com.example.consistenthash.service.RingEventLogger;
+import com.example.consistenthash.service.SkeletonRendezvousHash;
+import com.example.consistenthash.service.TokenAllocation;
+import com.example.consistenthash.service.hash.HashFunction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 안정 해시 빈 설정
+ * application.properties의 consistent-hash.* 값으로 엔진, 가상 노드 수, 해시 함수를 선택.
+ */
+@Configuration
+public class ConsistentHashConfig {
+
+    @Bean
+    public ConsistentHashEngine consistentHashEngine(
+            @Value("${consistent-hash.engine:" + ConsistentHash.NAME + "}") String engine,
+            @Value("${consistent-hash.virtual-nodes:" + ConsistentHash.DEFAULT_VIRTUAL_NODES + "}") int virtualNodes,
+            @Value("${consistent-hash.hash-function:sha1}") String hashFunction,
+            @Value("${consistent-hash.token-allocation:hashed}") String tokenAllocation,
+            @Value("${consistent-hash.concurrency-mode:snapshot}") String concurrencyMode,
+            @Value("${consistent-hash.event-log:true}") boolean eventLog,
+            @Value("${consistent-hash.maglev.table-size:" + MaglevHash.DEFAULT_TABLE_SIZE + "}") int maglevTableSize,
+            @Value("${consistent-hash.bounded-load.epsilon:-1}") double boundedLoadEpsilon,
+            @Value("${consistent-hash.rendezvous.fanout:" + SkeletonRendezvousHash.DEFAULT_FANOUT + "}") int fanout,
+            @Value("${consistent-hash.rendezvous.depth:" + SkeletonRendezvousHash.DEFAULT_DEPTH + "}") int depth,
+            @Value("${consistent-hash.multi-probe.probes:" + MultiProbeConsistentHash.DEFAULT_PROBES + "}") int probes,
+            @Value("${consistent-hash.anchor.capacity:" + AnchorHash.DEFAULT_CAPACITY + "}") int anchorCapacity) {
+        HashFunction function = HashFunction.of(hashFunction);
+
+        return switch (engine.trim().toLowerCase()) {
+            case ConsistentHash.NAME -> {
+                ConsistentHash ring = new ConsistentHash(virtualNodes, function, TokenAllocation.of(tokenAllocation),
+                        ConcurrencyMode.of(concurrencyMode));
+                ring.setLoadBalancingFactor(boundedLoadEpsilon);
+                if (eventLog) {
+                    ring.addEventListener(new RingEventLogger());
+                }
+                yield ring;
+            }
+            case JumpConsistentHash.NAME -> new JumpConsistentHash(function);
+            case MaglevHash.NAME -> new MaglevHash(function, maglevTableSize);
+            case RendezvousHash.NAME -> new RendezvousHash(function);
+            case SkeletonRendezvousHash.NAME -> new SkeletonRendezvousHash(function, fanout, depth);
+            case MultiProbeConsistentHash.NAME -> new MultiProbeConsistentHash(function, probes);
+            case AnchorHash.NAME -> new AnchorHash(function, anchorCapacity);
+            default -> throw new IllegalArgumentException("지원하지 않는 안정 해시 엔진입니다: " + engine);
+        };
+    }
+}
@@ -1,28 +1,51 @@
 package com.example.consistenthash.controller;
 
 import com.example.consistenthash.dto.request.DistributionRequestDto;
+import com.example.consistenthash.dto.request.NodeBatchRequestDto;
 import com.example.consistenthash.dto.request.NodeRequestDto;
 import com.example.consistenthash.dto.response.*;
 import com.example.consistenthash.model.Node;
-import com.example.consistenthash.service.ConsistentHash;
+import com.example.consistenthash.service.ConsistentHashEngine;
+import com.example.consistenthash.service.MovedRange;
+import com.example.consistenthash.service.RingSnapshotFormat;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.*;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 @RestController
 @RequestMapping("/api/consistent-hash")
 public class ConsistentHashController {
 
-    private final ConsistentHash consistentHash;
+    private static final int MAX_BATCH_KEYS = 100_000; // 일괄 조회 최대 키 개수
+    private static final int MAX_STREAM_KEY_LENGTH = 8 * 1024; // 스트리밍 조회 키 최대 길이 (문자)
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024; // 스트리밍 입출력 버퍼 크기
+    private static final int STREAM_FLUSH_INTERVAL = 4096; // 이 줄 수마다 응답을 내보냄
+    private static final String RING_ETAG_PREFIX =
+            "ring-" + Long.toHexString(ThreadLocalRandom.current().nextLong()) + "-"; // 인스턴스별 ETag 접두사
+
+    private final ConsistentHashEngine consistentHash;
+    private final RingDeltaBroadcaster deltaBroadcaster;
 
     @Autowired
-    public ConsistentHashController(ConsistentHash consistentHash) {
+    public ConsistentHashController(ConsistentHashEngine consistentHash, RingDeltaBroadcaster deltaBroadcaster) {
         this.consistentHash = consistentHash;
+        this.deltaBroadcaster = deltaBroadcaster;
     }
 
     /**
@@ -30,11 +53,44 @@ public class ConsistentHashController {
      */
     @PostMapping("/nodes")
     public ResponseEntity<ApiResponseDto<Void>> addNode(@Valid @RequestBody NodeRequestDto request) {
-        Node node = new Node(request.getId(), request.getHost(), request.getPort());
-        consistentHash.addNode(node);
+        Node node = new Node(request.getId(), request.getHost(), request.getPort(), request.getWeight());
+        try {
+            consistentHash.addNode(node);
+        } catch (IllegalStateException e) {
+            // 엔진 특성상 허용되지 않는 추가 (예: AnchorHash 용량 초과)
+            return ResponseEntity.badRequest().body(ApiResponseDto.error(e.getMessage()));
+        }
+
+        String message = String.format("노드가 성공적으로 추가되었습니다: %s (%s:%d, 가중치 %d)",
+                request.getId(), request.getHost(), request.getPort(), request.getWeight());
+        return ResponseEntity.ok(ApiResponseDto.success(message));
+    }
+
+    /**
+     * 운영 중인 노드의 가중치 변경 (차이만큼의 가상 노드만 추가/제거)
+     */
+    @PatchMapping("/nodes/{nodeId}/weight")
+    public ResponseEntity<ApiResponseDto<Void>> updateNodeWeight(@PathVariable String nodeId,
+                                                                 @RequestParam int weight) {
+        if (weight < 1) {
+            return ResponseEntity.badRequest().body(ApiResponseDto.error("가중치는 양수여야 합니다"));
+        }
+        if (weight > Node.MAX_WEIGHT) {
+            return ResponseEntity.badRequest().body(ApiResponseDto.error("가중치는 " + Node.MAX_WEIGHT + " 이하여야 합니다"));
+        }
 
-        String message = String.format("노드가 성공적으로 추가되었습니다: %s (%s:%d)",
-                request.getId(), request.getHost(), request.getPort());
+        boolean updated;
+        try {
+            updated = consistentHash.updateWeight(nodeId, weight);
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponseDto.error(e.getMessage()));
+        }
+        if (!updated) {
+            String error = String.format("존재하지 않는 노드입니다: %s", nodeId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponseDto.error(error));
+        }
+
+        String message = String.format("노드 가중치가 변경되었습니다: %s (가중치 %d)", nodeId, weight);
         return ResponseEntity.ok(ApiResponseDto.success(message));
     }
 
@@ -43,12 +99,77 @@ public class ConsistentHashController {
      */
     @DeleteMapping("/nodes/{nodeId}")
     public ResponseEntity<ApiResponseDto<Void>> removeNode(@PathVariable String nodeId) {
-        consistentHash.removeNode(nodeId);
+        try {
+            consistentHash.removeNode(nodeId);
+        } catch (IllegalStateException e) {
+            // 엔진 특성상 허용되지 않는 제거 (예: Jump 해시의 중간 노드)
+            return ResponseEntity.badRequest().body(ApiResponseDto.error(e.getMessage()));
+        }
 
         String message = String.format("노드가 성공적으로 제거되었습니다: %s", nodeId);
         return ResponseEntity.ok(ApiResponseDto.success(message));
     }
 
+    /**
+     * 노드 일괄 변경 (제거 후 추가를 하나의 변경으로 적용, ring 엔진은 변경 번호가 한 번만 증가)
+     */
+    @PostMapping("/nodes/batch")
+    public ResponseEntity<ApiResponseDto<Void>> replaceNodes(@Valid @RequestBody NodeBatchRequestDto request) {
+        List<Node> additions = new ArrayList<>(request.getAdd().size());
+        for (NodeRequestDto node : request.getAdd()) {
+            additions.add(new Node(node.getId(), node.getHost(), node.getPort(), node.getWeight()));
+        }
+
+        try {
+            consistentHash.replaceNodes(request.getRemove(), additions);
+        } catch (IllegalStateException e) {
+            // 엔진 특성상 허용되지 않는 변경 (예: AnchorHash 용량 초과, Jump 해시의 중간 노드 제거)
+            return ResponseEntity.badRequest().body(ApiResponseDto.error(e.getMessage()));
+        }
+
+        String message = String.format("노드 일괄 변경이 완료되었습니다: 제거 요청 %d개, 추가 요청 %d개 (현재 노드 %d개)",
+                request.getRemove().size(), additions.size(), consistentHash.getNodeCount());
+        return ResponseEntity.ok(ApiResponseDto.success(message));
+    }
+
+    /**
+     * 노드 추가 시 이동할 해시 구간 미리보기 (링은 변경하지 않음)
+     */
+    @PostMapping("/nodes/preview")
+    public ResponseEntity<ApiResponseDto<RingDiffResponseDto>> previewAddNode(
+            @Valid @RequestBody NodeRequestDto request) {
+        Node node = new Node(request.getId(), request.getHost(), request.getPort(), request.getWeight());
+        List<MovedRange> ranges;
+        try {
+            ranges = consistentHash.previewAddNode(node);
+        } catch (UnsupportedOperationException e) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).body(ApiResponseDto.error(e.getMessage()));
+        }
+
+        RingDiffResponseDto responseData = new RingDiffResponseDto("ADD", node.getId(), ranges);
+        String message = String.format("노드 추가 시 %d개 구간(키 공간 %.2f%%)이 이동합니다",
+                responseData.getRangeCount(), responseData.getMovedShare() * 100);
+        return ResponseEntity.ok(ApiResponseDto.success(responseData, message));
+    }
+
+    /**
+     * 노드 제거 시 이동할 해시 구간 미리보기 (링은 변경하지 않음)
+     */
+    @GetMapping("/nodes/{nodeId}/removal-preview")
+    public ResponseEntity<ApiResponseDto<RingDiffResponseDto>> previewRemoveNode(@PathVariable String nodeId) {
+        List<MovedRange> ranges;
+        try {
+            ranges = consistentHash.previewRemoveNode(nodeId);
+        } catch (UnsupportedOperationException e) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).body(ApiResponseDto.error(e.getMessage()));
+        }
+
+        RingDiffResponseDto responseData = new RingDiffResponseDto("REMOVE", nodeId, ranges);
+        String message = String.format("노드 제거 시 %d개 구간(키 공간 %.2f%%)이 이동합니다",
+                responseData.getRangeCount(), responseData.getMovedShare() * 100);
+        return ResponseEntity.ok(ApiResponseDto.success(responseData, message));
+    }
+
     /**
      * 키에 대한 담당 노드 조회
      */
@@ -67,11 +188,146 @@ public class ConsistentHashController {
         }
     }
 
+    /**
+     * 여러 키에 대한 담당 노드 일괄 조회 (노드별로 묶어서 반환)
+     * 요청 본문은 키 문자열의 JSON 배열이며, 전체 배치가 하나의 링 스냅샷으로 조회됨.
+     */
+    @PostMapping("/nodes/lookup")
+    public ResponseEntity<ApiResponseDto<BatchLookupResponseDto>> getNodesForKeys(@RequestBody List<String> keys) {
+        if (keys.size() > MAX_BATCH_KEYS) {
+            String error = String.format("한 번에 조회할 수 있는 키는 최대 %,d개입니다 (요청: %,d개)",
+                    MAX_BATCH_KEYS, keys.size());
+            return ResponseEntity.badRequest().body(ApiResponseDto.error(error));
+        }
+        if (keys.contains(null)) {
+            return ResponseEntity.badRequest().body(ApiResponseDto.error("키 목록에 null이 포함될 수 없습니다"));
+        }
+
+        Map<Node, List<String>> routed = consistentHash.routeBatch(keys);
+
+        List<BatchLookupResponseDto.NodeKeyGroup> groups = new ArrayList<>(routed.size());
+        routed.forEach((node, nodeKeys) -> groups.add(
+                new BatchLookupResponseDto.NodeKeyGroup(node.getId(), node.getAddress(), nodeKeys)));
+
+        BatchLookupResponseDto responseData = new BatchLookupResponseDto(keys.size(), groups);
+
+        String message = String.format("%d개 키를 %d개 노드로 조회했습니다", keys.size(), groups.size());
+        return ResponseEntity.ok(ApiResponseDto.success(responseData, message));
+    }
+
+    /**
+     * 대량 키 스트리밍 조회
+     * 요청 본문의 줄 단위 키를 읽는 즉시 "key\tnodeId\taddress" 줄로 응답에 기록 (담당 노드가 없으면 빈 칸).
+     * 각 줄을 그대로 키로 사용하므로 text/plain만 받음 (JSON 문자열로 감싼 키는 따옴표까지 키가 됨).
+     * 입출력 버퍼만 사용하므로 키 개수와 무관하게 메모리가 일정하고,
+     * 블로킹 쓰기로 클라이언트가 읽는 속도만큼만 요청 본문을 읽음(배압).
+     * 키가 최대 길이를 넘으면 키 칸이 빈 "\tERROR\t메시지" 줄을 기록하고 중단하며,
+     * 아직 응답을 내보내지 않았으면 기록한 결과를 버리고 400 상태로 이 줄만 응답.
+     */
+    @PostMapping(value = "/nodes/lookup/stream",
+            consumes = MediaType.TEXT_PLAIN_VALUE,
+            produces = MediaType.TEXT_PLAIN_VALUE)
+    public void streamNodesForKeys(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8);
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8), STREAM_BUFFER_SIZE);
+
+        char[] buffer = new char[STREAM_BUFFER_SIZE];
+        char[] key = new char[MAX_STREAM_KEY_LENGTH]; // 줄마다 재사용하는 키 버퍼
+        CharBuffer keyView = CharBuffer.wrap(key); // 키 버퍼를 복사 없이 CharSequence로 조회
+        int keyLength = 0;
+        long lineCount = 0;
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                char c = buffer[i];
+                if (c != '\n') {
+                    if (keyLength == MAX_STREAM_KEY_LENGTH) {
+                        writeStreamError(writer, response, String.format(
+                                "%d번째 키가 최대 길이(%d자)를 초과했습니다", lineCount + 1, MAX_STREAM_KEY_LENGTH));
+                        return;
+                    }
+                    key[keyLength++] = c;
+                    continue;
+                }
+
+                if (writeLookupLine(writer, keyView, keyLength) && ++lineCount % STREAM_FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+                keyLength = 0;
+            }
+        }
+        writeLookupLine(writer, keyView, keyLength); // 마지막 줄에 개행이 없는 경우
+
+        writer.flush();
+    }
+
+    /**
+     * 스트리밍 조회 오류 줄 기록 (빈 키는 결과 줄로 기록되지 않으므로 결과와 구분됨)
+     * 응답이 아직 커밋되지 않았으면 버퍼에 쌓인 결과를 버리고 400으로 응답.
+     */
+    private void writeStreamError(Writer writer, HttpServletResponse response, String error) throws IOException {
+        Writer out = writer;
+        if (!response.isCommitted()) {
+            response.resetBuffer();
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            out = new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8); // 쓰지 않은 결과는 버림
+        }
+        out.write("\tERROR\t");
+        out.write(error);
+        out.write('\n');
+        out.flush();
+    }
+
+    /**
+     * 키 버퍼의 한 줄을 조회하여 기록 (빈 줄이면 false)
+     */
+    private boolean writeLookupLine(Writer writer, CharBuffer keyView, int keyLength) throws IOException {
+        // CRLF의 CR 제거
+        if (keyLength > 0 && keyView.array()[keyLength - 1] == '\r') {
+            keyLength--;
+        }
+        if (keyLength == 0) {
+            return false;
+        }
+
+        keyView.clear().limit(keyLength);
+        Node node = consistentHash.getNode(keyView);
+
+        writer.write(keyView.array(), 0, keyLength);
+        writer.write('\t');
+        if (node != null) {
+            writer.write(node.getId());
+            writer.write('\t');
+            writer.write(node.getHost());
+            writer.write(':');
+            writer.write(Integer.toString(node.getPort()));
+        } else {
+            writer.write('\t');
+        }
+        writer.write('\n');
+        return true;
+    }
+
     /**
      * 링 상태 정보 조회
      */
     @GetMapping("/ring/info")
-    public ResponseEntity<ApiResponseDto<RingInfoResponseDto>> getRingInfo() {
+    public ResponseEntity<ApiResponseDto<RingInfoResponseDto>> getRingInfo(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 변경 번호를 내용보다 먼저 읽어, 조회 중 변경이 있어도 ETag가 내용보다 새롭지 않게 함
+        long epoch = consistentHash.getEpoch();
+        String eTag = epoch >= 0 ? ringETag(epoch) : null;
+        if (eTag != null && eTagMatches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
         Map<String, Object> ringInfo = consistentHash.getRingInfo();
 
         @SuppressWarnings("unchecked")
@@ -82,7 +338,93 @@ public class ConsistentHashController {
                 (Map<String, Integer>) ringInfo.get("데이터분포")
         );
 
-        return ResponseEntity.ok(ApiResponseDto.success(responseData, "링 정보를 조회했습니다"));
+        @SuppressWarnings("unchecked")
+        Map<String, Double> ownership = (Map<String, Double>) ringInfo.get("점유율");
+        responseData.setOwnership(ownership);
+
+        ApiResponseDto<RingInfoResponseDto> body = ApiResponseDto.success(responseData, "링 정보를 조회했습니다");
+        if (eTag == null) {
+            return ResponseEntity.ok(body);
+        }
+
+        responseData.setEpoch(epoch);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(body);
+    }
+
+    /**
+     * 클라이언트 측 라우팅용 링 스냅샷 내보내기 (RingSnapshotFormat 바이너리, RingClient로 로드)
+     * 링 정보와 같은 ETag를 사용하므로 변경이 없으면 304로 응답.
+     */
+    @GetMapping(value = "/ring/export", produces = RingSnapshotFormat.CONTENT_TYPE)
+    public ResponseEntity<byte[]> exportRing(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        long epoch = consistentHash.getEpoch();
+        String eTag = epoch >= 0 ? ringETag(epoch) : null;
+        if (eTag != null && eTagMatches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        byte[] snapshot;
+        try {
+            snapshot = consistentHash.exportSnapshot();
+        } catch (UnsupportedOperationException e) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+
+        // 내용에 담긴 변경 번호로 ETag를 정함 (조회 이후 변경되었어도 내용과 일치)
+        eTag = ringETag(RingSnapshotFormat.epochOf(snapshot));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(RingSnapshotFormat.CONTENT_TYPE))
+                .contentLength(snapshot.length)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot);
+    }
+
+    /**
+     * 링 멤버십 변경분 스트림 (Server-Sent Events)
+     * 연결 직후 현재 변경 번호를 담은 "epoch" 이벤트를, 이후 변경마다 "delta" 이벤트를 보냄.
+     * 클라이언트는 /ring/export로 받은 스냅샷의 변경 번호에서 시작하여 번호가 정확히 1 큰 변경분만 적용하고,
+     * 이미 반영한 번호는 무시하며, 번호가 건너뛰면 /ring/export로 전체 스냅샷을 다시 받음.
+     */
+    @GetMapping(value = "/ring/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamRingDeltas() {
+        if (!deltaBroadcaster.isSupported()) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+        return ResponseEntity.ok(deltaBroadcaster.subscribe());
+    }
+
+    /**
+     * 링 변경 번호의 ETag (재시작 후 같은 번호와 구분되도록 인스턴스 식별자 포함)
+     */
+    private String ringETag(long epoch) {
+        return "\"" + RING_ETAG_PREFIX + epoch + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더의 ETag 목록 중 일치하는 값이 있는지 (약한 비교, "*"는 항상 일치)
+     */
+    private static boolean eTagMatches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
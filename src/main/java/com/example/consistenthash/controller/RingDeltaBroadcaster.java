@@ -0,0 +1,130 @@
+package com.example.consistenthash.controller;
+
+import com.example.consistenthash.dto.response.RingDeltaResponseDto;
+import com.example.consistenthash.service.ConsistentHashEngine;
+import com.example.consistenthash.service.RingDelta;
+import com.example.consistenthash.service.RingDeltaListener;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 링 멤버십 변경분을 SSE 구독자에게 전달
+ * 변경분은 쓰기 락 안에서 큐에 넣기만 하고, 전송은 단일 스레드가 변경 순서대로 수행.
+ * 큐가 가득 차면 변경분을 버리며, 구독자는 건너뛴 변경 번호를 보고 전체 스냅샷(/ring/export)으로 다시 맞춤.
+ */
+@Component
+public class RingDeltaBroadcaster {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30); // 이후 클라이언트가 재연결
+    private static final int QUEUE_CAPACITY = 1024;
+
+    private final ConsistentHashEngine consistentHash;
+    private final RingDeltaListener listener = this::onDelta;
+    private final boolean supported;
+    private final List<SseEmitter> emitters;
+    private final ThreadPoolExecutor dispatcher;
+
+    public RingDeltaBroadcaster(ConsistentHashEngine consistentHash) {
+        this.consistentHash = consistentHash;
+        this.emitters = new CopyOnWriteArrayList<>();
+        this.dispatcher = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "ring-delta-broadcaster");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+
+        boolean registered;
+        try {
+            consistentHash.addDeltaListener(listener);
+            registered = true;
+        } catch (UnsupportedOperationException e) {
+            registered = false;
+        }
+        this.supported = registered;
+    }
+
+    public boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * 새 구독자 등록
+     * 첫 이벤트로 현재 변경 번호(epoch)를 보내고 이후 변경분(delta)을 이어서 보냄.
+     * 등록도 전송 스레드에서 처리하므로 구독자가 받는 이벤트는 항상 변경 번호 순서.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+
+        try {
+            dispatcher.execute(() -> {
+                long epoch = consistentHash.getEpoch();
+                try {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(epoch))
+                            .name("epoch")
+                            .data(epoch));
+                    emitters.add(emitter);
+                } catch (IOException e) {
+                    emitter.completeWithError(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * 구독자가 없어도 모든 변경분을 전송 스레드에 넣음
+     * 쓰기 스레드에서 구독자 유무를 보고 건너뛰면, 등록 작업이 변경 번호를 읽은 직후의 변경분이
+     * 첫 구독자에게 전달되지 않을 수 있음. 전송 스레드에서 순서대로 처리하면 등록 시 읽은 번호 이후의
+     * 변경분은 항상 등록 뒤에 처리되며, 이미 반영된 번호의 변경분은 구독자가 무시함.
+     */
+    private void onDelta(RingDelta delta) {
+        dispatcher.execute(() -> broadcast(delta));
+    }
+
+    private void broadcast(RingDelta delta) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        RingDeltaResponseDto payload = new RingDeltaResponseDto(delta);
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(delta.getEpoch()))
+                        .name("delta")
+                        .data(payload, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                // 연결이 끊긴 구독자
+                emitters.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    /**
+     * 현재 구독자 수
+     */
+    public int getSubscriberCount() {
+        return emitters.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        consistentHash.removeDeltaListener(listener);
+        dispatcher.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+        emitters.clear();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.consistenthash.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 노드 일괄 변경 요청을 위한 DTO (remove를 먼저 적용한 뒤 add 적용)
+ */
+public class NodeBatchRequestDto {
+
+    @Valid
+    @Size(max = 1000, message = "한 번에 추가할 수 있는 노드는 최대 1,000개입니다")
+    private List<NodeRequestDto> add = new ArrayList<>();
+
+    @Size(max = 1000, message = "한 번에 제거할 수 있는 노드는 최대 1,000개입니다")
+    private List<@NotBlank(message = "노드 ID는 필수입니다") String> remove = new ArrayList<>();
+
+    // 기본 생성자
+    public NodeBatchRequestDto() {}
+
+    // 전체 생성자
+    public NodeBatchRequestDto(List<NodeRequestDto> add, List<String> remove) {
+        this.add = add != null ? new ArrayList<>(add) : new ArrayList<>();
+        this.remove = remove != null ? new ArrayList<>(remove) : new ArrayList<>();
+    }
+
+    // Getters and Setters
+    public List<NodeRequestDto> getAdd() {
+        return add;
+    }
+
+    public void setAdd(List<NodeRequestDto> add) {
+        this.add = add != null ? new ArrayList<>(add) : new ArrayList<>();
+    }
+
+    public List<String> getRemove() {
+        return remove;
+    }
+
+    public void setRemove(List<String> remove) {
+        this.remove = remove != null ? new ArrayList<>(remove) : new ArrayList<>();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("NodeBatchRequestDto{add=%d, remove=%d}", add.size(), remove.size());
+    }
+}
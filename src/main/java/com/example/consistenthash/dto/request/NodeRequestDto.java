@@ -1,5 +1,7 @@
 package com.example.consistenthash.dto.request;
 
+import com.example.consistenthash.model.Node;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
@@ -19,14 +21,23 @@ public class NodeRequestDto {
     @Positive(message = "포트는 양수여야 합니다")
     private int port = 8080;
 
+    @Positive(message = "가중치는 양수여야 합니다")
+    @Max(value = Node.MAX_WEIGHT, message = "가중치는 " + Node.MAX_WEIGHT + " 이하여야 합니다")
+    private int weight = 1; // 상한은 가상 노드 수가 과도하게 늘어나는 것을 막기 위함
+
     // 기본 생성자
     public NodeRequestDto() {}
 
     // 전체 생성자
-    public NodeRequestDto(String id, String host, int port) {
+    public NodeRequestDto(String id, String host, int port, int weight) {
         this.id = id;
         this.host = host;
         this.port = port;
+        this.weight = weight;
+    }
+
+    public NodeRequestDto(String id, String host, int port) {
+        this(id, host, port, 1);
     }
 
     // 편의 생성자
@@ -59,8 +70,16 @@ public class NodeRequestDto {
         this.port = port;
     }
 
+    public int getWeight() {
+        return weight;
+    }
+
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+
     @Override
     public String toString() {
-        return String.format("NodeRequestDto{id='%s', host='%s', port=%d}", id, host, port);
+        return String.format("NodeRequestDto{id='%s', host='%s', port=%d, weight=%d}", id, host, port, weight);
     }
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.example.consistenthash.dto.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 키의 담당 노드 일괄 조회 결과 응답 DTO (노드별로 키를 묶어서 반환)
+ */
+public class BatchLookupResponseDto {
+
+    private int totalKeyCount;
+    private int nodeCount;
+    private List<NodeKeyGroup> groups;
+
+    // 기본 생성자
+    public BatchLookupResponseDto() {
+        this.groups = new ArrayList<>();
+    }
+
+    // 전체 생성자
+    public BatchLookupResponseDto(int totalKeyCount, List<NodeKeyGroup> groups) {
+        this.totalKeyCount = totalKeyCount;
+        this.groups = groups != null ? new ArrayList<>(groups) : new ArrayList<>();
+        this.nodeCount = this.groups.size();
+    }
+
+    // Getters and Setters
+    public int getTotalKeyCount() {
+        return totalKeyCount;
+    }
+
+    public void setTotalKeyCount(int totalKeyCount) {
+        this.totalKeyCount = totalKeyCount;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public void setNodeCount(int nodeCount) {
+        this.nodeCount = nodeCount;
+    }
+
+    public List<NodeKeyGroup> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<NodeKeyGroup> groups) {
+        this.groups = groups;
+    }
+
+    /**
+     * 한 노드가 담당하는 키 묶음
+     */
+    public static class NodeKeyGroup {
+        private String nodeId;
+        private String nodeAddress;
+        private int keyCount;
+        private List<String> keys;
+
+        public NodeKeyGroup() {}
+
+        public NodeKeyGroup(String nodeId, String nodeAddress, List<String> keys) {
+            this.nodeId = nodeId;
+            this.nodeAddress = nodeAddress;
+            this.keys = keys;
+            this.keyCount = keys != null ? keys.size() : 0;
+        }
+
+        // Getters and Setters
+        public String getNodeId() { return nodeId; }
+        public void setNodeId(String nodeId) { this.nodeId = nodeId; }
+        public String getNodeAddress() { return nodeAddress; }
+        public void setNodeAddress(String nodeAddress) { this.nodeAddress = nodeAddress; }
+        public int getKeyCount() { return keyCount; }
+        public void setKeyCount(int keyCount) { this.keyCount = keyCount; }
+        public List<String> getKeys() { return keys; }
+        public void setKeys(List<String> keys) { this.keys = keys; }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchLookupResponseDto{totalKeys=%d, nodes=%d}", totalKeyCount, nodeCount);
+    }
+}
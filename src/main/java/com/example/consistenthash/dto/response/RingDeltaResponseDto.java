@@ -0,0 +1,131 @@
+package com.example.consistenthash.dto.response;
+
+import com.example.consistenthash.model.Node;
+import com.example.consistenthash.service.RingDelta;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 링 멤버십 변경분 SSE 이벤트 DTO
+ */
+public class RingDeltaResponseDto {
+
+    private String type;
+    private long epoch;
+    private String nodeId;
+    private String host;
+    private int port;
+    private int weight;
+    private long[] addedTokens;
+    private long[] removedTokens;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<RingDeltaResponseDto> changes; // 일괄 변경(BATCH)의 노드별 변경분
+
+    // 기본 생성자
+    public RingDeltaResponseDto() {
+        this.addedTokens = new long[0];
+        this.removedTokens = new long[0];
+    }
+
+    // 서비스 변경분으로부터 생성
+    public RingDeltaResponseDto(RingDelta delta) {
+        this.type = delta.getType().name();
+        this.epoch = delta.getEpoch();
+        Node node = delta.getNode();
+        if (node != null) {
+            this.nodeId = node.getId();
+            this.host = node.getHost();
+            this.port = node.getPort();
+            this.weight = node.getWeight();
+        }
+        this.addedTokens = delta.getAddedTokens();
+        this.removedTokens = delta.getRemovedTokens();
+        if (!delta.getChanges().isEmpty()) {
+            this.changes = new ArrayList<>(delta.getChanges().size());
+            for (RingDelta change : delta.getChanges()) {
+                this.changes.add(new RingDeltaResponseDto(change));
+            }
+        }
+    }
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public void setEpoch(long epoch) {
+        this.epoch = epoch;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public void setHost(String host) {
+        this.host = host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+
+    public long[] getAddedTokens() {
+        return addedTokens.clone();
+    }
+
+    public void setAddedTokens(long[] addedTokens) {
+        this.addedTokens = addedTokens != null ? addedTokens.clone() : new long[0];
+    }
+
+    public long[] getRemovedTokens() {
+        return removedTokens.clone();
+    }
+
+    public void setRemovedTokens(long[] removedTokens) {
+        this.removedTokens = removedTokens != null ? removedTokens.clone() : new long[0];
+    }
+
+    public List<RingDeltaResponseDto> getChanges() {
+        return changes != null ? new ArrayList<>(changes) : null;
+    }
+
+    public void setChanges(List<RingDeltaResponseDto> changes) {
+        this.changes = changes != null ? new ArrayList<>(changes) : null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RingDeltaResponseDto{type='%s', epoch=%d, nodeId='%s', added=%d, removed=%d}",
+                type, epoch, nodeId, addedTokens.length, removedTokens.length);
+    }
+}
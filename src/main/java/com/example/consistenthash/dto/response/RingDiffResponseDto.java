@@ -0,0 +1,116 @@
+package com.example.consistenthash.dto.response;
+
+import com.example.consistenthash.service.MovedRange;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 멤버십 변경 미리보기 응답 DTO (담당 노드가 바뀌는 해시 구간 목록)
+ */
+public class RingDiffResponseDto {
+
+    private String operation;
+    private String nodeId;
+    private int rangeCount;
+    private double movedShare; // 이동하는 키 공간 비율 합계 (0~1)
+    private List<Range> ranges;
+
+    // 기본 생성자
+    public RingDiffResponseDto() {
+        this.ranges = new ArrayList<>();
+    }
+
+    // 서비스 이동 구간으로부터 생성
+    public RingDiffResponseDto(String operation, String nodeId, List<MovedRange> movedRanges) {
+        this.operation = operation;
+        this.nodeId = nodeId;
+        this.ranges = new ArrayList<>(movedRanges.size());
+        for (MovedRange movedRange : movedRanges) {
+            this.ranges.add(new Range(movedRange.getStartToken(), movedRange.getEndToken(),
+                    movedRange.getFromNode().getId(), movedRange.getToNode().getId(), movedRange.getShare()));
+            this.movedShare += movedRange.getShare();
+        }
+        this.rangeCount = this.ranges.size();
+    }
+
+    // Getters and Setters
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public int getRangeCount() {
+        return rangeCount;
+    }
+
+    public void setRangeCount(int rangeCount) {
+        this.rangeCount = rangeCount;
+    }
+
+    public double getMovedShare() {
+        return movedShare;
+    }
+
+    public void setMovedShare(double movedShare) {
+        this.movedShare = movedShare;
+    }
+
+    public List<Range> getRanges() {
+        return ranges;
+    }
+
+    public void setRanges(List<Range> ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * 이동 구간 (startToken, endToken] (startToken > endToken이면 링의 처음으로 이어짐)
+     */
+    public static class Range {
+        private long startToken;
+        private long endToken;
+        private String fromNodeId;
+        private String toNodeId;
+        private double share;
+
+        public Range() {}
+
+        public Range(long startToken, long endToken, String fromNodeId, String toNodeId, double share) {
+            this.startToken = startToken;
+            this.endToken = endToken;
+            this.fromNodeId = fromNodeId;
+            this.toNodeId = toNodeId;
+            this.share = share;
+        }
+
+        // Getters and Setters
+        public long getStartToken() { return startToken; }
+        public void setStartToken(long startToken) { this.startToken = startToken; }
+        public long getEndToken() { return endToken; }
+        public void setEndToken(long endToken) { this.endToken = endToken; }
+        public String getFromNodeId() { return fromNodeId; }
+        public void setFromNodeId(String fromNodeId) { this.fromNodeId = fromNodeId; }
+        public String getToNodeId() { return toNodeId; }
+        public void setToNodeId(String toNodeId) { this.toNodeId = toNodeId; }
+        public double getShare() { return share; }
+        public void setShare(double share) { this.share = share; }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RingDiffResponseDto{operation='%s', nodeId='%s', ranges=%d, movedShare=%.4f}",
+                operation, nodeId, rangeCount, movedShare);
+    }
+}
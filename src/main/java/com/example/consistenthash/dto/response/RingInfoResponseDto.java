@@ -1,5 +1,7 @@
 package com.example.consistenthash.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -17,6 +19,12 @@ public class RingInfoResponseDto {
     private double averageKeysPerNode;
     private double distributionUniformity;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Double> ownership; // 노드별 정확한 키 공간 점유율 (계산 가능한 엔진만)
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long epoch; // 링 변경 번호 (지원하는 엔진만)
+
     // 기본 생성자
     public RingInfoResponseDto() {
         this.nodeList = new ArrayList<>();
@@ -131,6 +139,24 @@ public class RingInfoResponseDto {
         calculateDerivedFields(); // 분산 관련 필드 재계산
     }
 
+    public Map<String, Double> getOwnership() {
+        // 방어적 복사 2단계: Getter에서도 새로운 복사본 반환
+        return ownership != null ? new HashMap<>(ownership) : null;
+    }
+
+    public void setOwnership(Map<String, Double> ownership) {
+        // Setter에서도 방어적 복사 (String과 Double은 immutable)
+        this.ownership = ownership != null ? new HashMap<>(ownership) : null;
+    }
+
+    public Long getEpoch() {
+        return epoch;
+    }
+
+    public void setEpoch(Long epoch) {
+        this.epoch = epoch;
+    }
+
     public double getAverageKeysPerNode() {
         return averageKeysPerNode;
     }
@@ -3,14 +3,25 @@ package com.example.consistenthash.model;
 import java.util.Objects;
 
 public class Node {
+    public static final int MAX_WEIGHT = 1000; // 가중치 상한 (ring 엔진 가상 노드 수 = 기본 가상 노드 수 × 가중치)
+
     private final String id;
     private final String host;
     private final int port;
+    private final int weight; // 상대 용량 (가상 노드 수 배율, 동일성 비교에는 포함하지 않음)
 
-    public Node(String id, String host, int port) {
+    public Node(String id, String host, int port, int weight) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("노드 가중치는 1 이상이어야 합니다: " + weight);
+        }
         this.id = id;
         this.host = host;
         this.port = port;
+        this.weight = weight;
+    }
+
+    public Node(String id, String host, int port) {
+        this(id, host, port, 1);
     }
 
     public Node(String id) {
@@ -29,6 +40,17 @@ public class Node {
         return port;
     }
 
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * 가중치만 바꾼 노드 반환
+     */
+    public Node withWeight(int weight) {
+        return new Node(id, host, port, weight);
+    }
+
     public String getAddress() {
         return host + ":" + port;
     }
@@ -50,6 +72,6 @@ public class Node {
 
     @Override
     public String toString() {
-        return String.format("Node{id='%s', address='%s'}", id, getAddress());
+        return String.format("Node{id='%s', address='%s', weight=%d}", id, getAddress(), weight);
     }
 }
\ No newline at end of file
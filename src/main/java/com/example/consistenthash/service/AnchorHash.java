@@ -0,0 +1,308 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+import com.example.consistenthash.service.hash.HashFunction;
+
+import java.util.*;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * AnchorHash 엔진 (Mendelson et al.)
+ * 최대 용량(anchor) 크기의 버킷 배열 중 일부를 작업 버킷으로 쓰고, 제거된 버킷에 떨어진 키만
+ * 남은 작업 버킷으로 다시 해시하여 최소 이동을 보장.
+ * 노드 제거/복구는 정수 배열 몇 칸만 바꾸는 O(1) 연산이고, 메모리는 용량에 비례하는 int 배열 4개로 고정.
+ *
+ * 제거된 버킷은 스택에 쌓이며 노드 추가 시 가장 최근에 제거된 버킷을 재사용하므로,
+ * 방금 제거한 노드를 다시 추가하면 원래 키가 그대로 돌아옴.
+ */
+public class AnchorHash implements ConsistentHashEngine {
+
+    public static final String NAME = "anchor";
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final long GOLDEN = 0x9e3779b97f4a7c15L;
+    private static final long MIX1 = 0xff51afd7ed558ccdL;
+    private static final long MIX2 = 0xc4ceb9fe1a85ec53L;
+
+    private final HashFunction hashFunction;
+    private final int capacity;
+
+    // AnchorHash 상태 (논문의 A, W, L, K, R, N)
+    private final int[] removedAt; // A: 제거 당시의 작업 버킷 수 (작업 중이면 0)
+    private final int[] working; // W: 작업 버킷 목록 (앞에서 N개)
+    private final int[] location; // L: 버킷의 W 내 위치
+    private final int[] successor; // K: 제거된 버킷의 대체 버킷
+    private final int[] removed; // R: 제거된 버킷 스택
+    private int removedTop;
+    private int size; // N
+
+    private final Node[] bucketNodes; // 버킷 → 노드
+    private final Map<String, Integer> bucketByNode; // 노드 ID → 버킷 (lock으로 보호)
+    private final StampedLock lock;
+
+    public AnchorHash(HashFunction hashFunction) {
+        this(hashFunction, DEFAULT_CAPACITY);
+    }
+
+    public AnchorHash(HashFunction hashFunction, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("용량은 1 이상이어야 합니다: " + capacity);
+        }
+
+        this.hashFunction = hashFunction;
+        this.capacity = capacity;
+        this.removedAt = new int[capacity];
+        this.working = new int[capacity];
+        this.location = new int[capacity];
+        this.successor = new int[capacity];
+        this.removed = new int[capacity];
+        this.bucketNodes = new Node[capacity];
+        this.bucketByNode = new HashMap<>();
+        this.lock = new StampedLock();
+        reset();
+    }
+
+    /**
+     * 모든 버킷을 제거된 상태로 초기화 (버킷 0이 스택 맨 위)
+     */
+    private void reset() {
+        for (int b = 0; b < capacity; b++) {
+            location[b] = b;
+            working[b] = b;
+            successor[b] = b;
+        }
+        removedTop = 0;
+        for (int b = capacity - 1; b >= 0; b--) {
+            removed[removedTop++] = b;
+            removedAt[b] = b;
+        }
+        size = 0;
+        Arrays.fill(bucketNodes, null);
+        bucketByNode.clear();
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    /**
+     * 가장 최근에 제거된 버킷을 작업 버킷으로 되돌리고 노드를 배치 (O(1))
+     */
+    @Override
+    public void addNode(Node node) {
+        long stamp = lock.writeLock();
+        try {
+            if (bucketByNode.containsKey(node.getId())) {
+                return; // 이미 존재하는 노드
+            }
+            if (removedTop == 0) {
+                throw capacityExceeded(node.getId());
+            }
+            attach(node);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 가장 최근에 제거된 버킷에 노드 배치 (쓰기 락 안에서 호출, 빈 버킷이 있어야 함)
+     */
+    private void attach(Node node) {
+        int b = removed[--removedTop];
+        removedAt[b] = 0;
+        location[working[size]] = size;
+        working[location[b]] = b;
+        successor[b] = b;
+        size++;
+
+        bucketNodes[b] = node;
+        bucketByNode.put(node.getId(), b);
+    }
+
+    private IllegalStateException capacityExceeded(String nodeId) {
+        return new IllegalStateException(String.format(
+                "AnchorHash 용량(%d)을 초과하여 노드를 추가할 수 없습니다: %s", capacity, nodeId));
+    }
+
+    /**
+     * 노드의 버킷을 제거 스택에 넣고 마지막 작업 버킷과 자리를 바꿈 (O(1))
+     */
+    @Override
+    public void removeNode(String nodeId) {
+        long stamp = lock.writeLock();
+        try {
+            detach(nodeId);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 노드의 버킷을 제거 스택에 넣음 (쓰기 락 안에서 호출, 존재하지 않는 노드면 무시)
+     */
+    private void detach(String nodeId) {
+        Integer bucket = bucketByNode.remove(nodeId);
+        if (bucket == null) {
+            return; // 존재하지 않는 노드
+        }
+
+        int b = bucket;
+        removed[removedTop++] = b;
+        size--;
+        removedAt[b] = size;
+        working[location[b]] = working[size];
+        successor[b] = working[size];
+        location[working[size]] = location[b];
+
+        bucketNodes[b] = null;
+    }
+
+    /**
+     * 여러 노드를 제거한 뒤 추가 (하나의 쓰기 락 안에서 적용하므로 조회자는 중간 상태를 보지 않음)
+     * 적용 전에 최종 노드 수가 용량 이내인지 확인하므로, 용량을 넘으면 아무것도 바꾸지 않고 예외를 던짐.
+     */
+    @Override
+    public void replaceNodes(Collection<String> nodeIdsToRemove, Collection<Node> nodesToAdd) {
+        long stamp = lock.writeLock();
+        try {
+            Set<String> remaining = new HashSet<>(bucketByNode.keySet());
+            remaining.removeAll(nodeIdsToRemove);
+            for (Node node : nodesToAdd) {
+                if (remaining.add(node.getId()) && remaining.size() > capacity) {
+                    throw capacityExceeded(node.getId());
+                }
+            }
+
+            nodeIdsToRemove.forEach(this::detach);
+            for (Node node : nodesToAdd) {
+                if (!bucketByNode.containsKey(node.getId())) {
+                    attach(node);
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Node getNode(String key) {
+        return getNode((CharSequence) key);
+    }
+
+    @Override
+    public Node getNode(CharSequence key) {
+        long keyHash = hashFunction.hash(key);
+
+        // 낙관적 읽기: 배열 값은 항상 [0, capacity) 범위이므로 변경 중에 읽어도 인덱스는 안전하고,
+        // 탐색이 비정상적으로 길어지거나 검증에 실패하면 읽기 락으로 다시 계산
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            boolean empty = size == 0;
+            int bucket = empty ? -1 : bucketOf(keyHash, capacity);
+            Node node = bucket < 0 ? null : bucketNodes[bucket];
+            if (lock.validate(stamp) && (empty || bucket >= 0)) {
+                return node;
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return size == 0 ? null : bucketNodes[bucketOf(keyHash, Integer.MAX_VALUE)];
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 키 해시가 배치될 작업 버킷 (논문의 GetBucket)
+     * 제거된 버킷에 떨어지면 그 버킷이 제거될 당시의 작업 버킷들 중에서 다시 고르고,
+     * 그 사이 제거된 버킷은 대체 버킷(K)을 따라가며 건너뜀. 탐색이 maxSteps를 넘으면 -1.
+     * 낙관적 읽기 중 다른 스레드가 removedAt[b]를 0으로 바꿀 수 있으므로, 반복마다 한 번만 읽은 값을
+     * 나눗수와 내부 탐색 경계로 함께 사용 (두 번 읽으면 0으로 나눌 수 있음).
+     */
+    private int bucketOf(long keyHash, int maxSteps) {
+        int b = (int) Long.remainderUnsigned(keyHash, capacity);
+        int steps = 0;
+        int bound;
+        while ((bound = removedAt[b]) > 0) {
+            int h = (int) ((rehash(keyHash, b) >>> 1) % bound);
+            while (removedAt[h] >= bound) {
+                h = successor[h];
+                if (++steps > maxSteps) {
+                    return -1; // 변경 중인 상태를 읽은 경우 (읽기 락으로 재계산)
+                }
+            }
+            b = h;
+            if (++steps > maxSteps) {
+                return -1;
+            }
+        }
+        return b;
+    }
+
+    /**
+     * 버킷 번호를 시드로 한 키 재해시
+     */
+    private static long rehash(long keyHash, int bucket) {
+        long x = keyHash + (bucket + 1) * GOLDEN;
+        x = (x ^ (x >>> 33)) * MIX1;
+        x = (x ^ (x >>> 33)) * MIX2;
+        return x ^ (x >>> 33);
+    }
+
+    @Override
+    public Map<String, Object> getRingInfo() {
+        List<String> nodeList;
+        long stamp = lock.readLock();
+        try {
+            nodeList = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                nodeList.add(bucketNodes[working[i]].getId());
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+
+        Map<String, Object> info = new HashMap<>();
+        info.put("물리노드수", nodeList.size());
+        info.put("가상노드수", 0); // 가상 노드를 사용하지 않음
+        info.put("노드목록", nodeList);
+
+        // 샘플 키 1000개로 분포 계산
+        Map<String, Integer> distribution = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            Node node = getNode("key_" + i);
+            if (node != null) {
+                distribution.merge(node.getId(), 1, Integer::sum);
+            }
+        }
+        info.put("데이터분포", distribution);
+
+        return info;
+    }
+
+    @Override
+    public int getNodeCount() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            reset();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
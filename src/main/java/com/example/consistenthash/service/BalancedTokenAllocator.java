@@ -0,0 +1,143 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+
+import java.util.*;
+
+/**
+ * 소유 구간 기반 토큰 할당기 (Cassandra의 allocate_tokens_for_local_replication_factor와 같은 목표)
+ * 토큰 t는 직전 토큰부터 t까지의 구간을 소유함. 합류하는 노드의 목표 점유율(가중치 비율)을 토큰 수로 나눈 만큼씩,
+ * 가중치 대비 점유율이 가장 높은 노드의 가장 긴 구간 앞부분을 떼어 오는 위치에 새 토큰을 둠.
+ * 매 합류마다 가장 과점유된 노드에서 가져오므로 적은 가상 노드 수로도 노드별 점유율이 가중치에 근접.
+ */
+final class BalancedTokenAllocator {
+
+    private static final double TWO_POW_63 = 0x1.0p63;
+
+    private BalancedTokenAllocator() {}
+
+    /**
+     * node를 위한 새 토큰 count개 선택 (ring에 이미 있는 node의 토큰은 유지한 채 추가분만 선택)
+     *
+     * @param ring        현재 링 (토큰 → 노드, node의 기존 토큰도 포함될 수 있음)
+     * @param node        토큰을 받을 노드 (가중치 포함)
+     * @param count       새로 배치할 토큰 수
+     * @param seed        링이 비었을 때 첫 토큰 위치
+     * @param nonNegative 키 공간이 [0, 2^63)인지 (아니면 64비트 전체)
+     */
+    static long[] allocate(NavigableMap<Long, Node> ring, Node node, int count, long seed, boolean nonNegative) {
+        long mask = nonNegative ? Long.MAX_VALUE : -1L;
+        double space = nonNegative ? TWO_POW_63 : 2 * TWO_POW_63;
+        long[] allocated = new long[count];
+        if (count == 0) {
+            return allocated;
+        }
+
+        if (ring.isEmpty()) {
+            // 빈 링: 키 공간을 count 등분
+            long step = nonNegative ? Long.MAX_VALUE / count + 1 : Long.divideUnsigned(-1L, count) + 1;
+            for (int i = 0; i < count; i++) {
+                allocated[i] = (seed + i * step) & mask;
+            }
+            return allocated;
+        }
+
+        // 노드별 소유 구간과 점유량 계산
+        Map<String, Owner> owners = new HashMap<>();
+        Map.Entry<Long, Node> previous = ring.lastEntry();
+        for (Map.Entry<Long, Node> entry : ring.entrySet()) {
+            long start = previous.getKey();
+            long length = (entry.getKey() - start) & mask; // 토큰이 하나뿐이면 0 = 키 공간 전체
+            double size = length == 0 ? space : toDouble(length);
+
+            Node owner = entry.getValue();
+            owners.computeIfAbsent(owner.getId(), id -> new Owner(owner.getWeight()))
+                    .add(new long[]{start, length}, size);
+            previous = entry;
+        }
+
+        Owner self = owners.remove(node.getId());
+        double owned = self == null ? 0 : self.owned;
+        double totalWeight = node.getWeight();
+        for (Owner owner : owners.values()) {
+            totalWeight += owner.weight;
+        }
+        double perToken = Math.max(0, space * node.getWeight() / totalWeight - owned) / count;
+
+        // 가중치 대비 점유율이 높은 노드 우선 (같으면 결과가 결정적이도록 노드 ID 순)
+        PriorityQueue<Map.Entry<String, Owner>> donors = new PriorityQueue<>((a, b) -> {
+            int byRatio = Double.compare(b.getValue().ratio(), a.getValue().ratio());
+            return byRatio != 0 ? byRatio : a.getKey().compareTo(b.getKey());
+        });
+        donors.addAll(owners.entrySet());
+
+        for (int i = 0; i < count; i++) {
+            Map.Entry<String, Owner> donorEntry = donors.poll();
+            if (donorEntry == null) {
+                throw new IllegalStateException("토큰을 넘겨줄 노드가 없습니다");
+            }
+            Owner donor = donorEntry.getValue();
+            long[] range = donor.ranges.poll();
+            long start = range[0];
+            long length = range[1];
+            double size = length == 0 ? space : toDouble(length);
+
+            // 구간 앞부분을 떼어 옴 (구간 전체는 가져올 수 없으므로 최소 1은 남김)
+            double take = Math.min(Math.max(perToken, 1), size - 1);
+            long taken = Math.max(1, toUnsigned(take));
+            if (length != 0 && Long.compareUnsigned(taken, length) >= 0) {
+                throw new IllegalStateException("더 이상 나눌 수 있는 토큰 구간이 없습니다");
+            }
+
+            long token = (start + taken) & mask;
+            allocated[i] = token;
+
+            donor.owned -= toDouble(taken);
+            donor.ranges.add(new long[]{token, (length - taken) & mask});
+            donors.add(donorEntry);
+        }
+
+        return allocated;
+    }
+
+    /**
+     * 부호 없는 64비트 값을 double로 변환
+     */
+    private static double toDouble(long unsigned) {
+        double value = (double) (unsigned >>> 1) * 2;
+        return value + (unsigned & 1);
+    }
+
+    /**
+     * 0 이상 2^64 미만의 double을 부호 없는 64비트 값으로 변환
+     */
+    private static long toUnsigned(double value) {
+        return value >= TWO_POW_63 ? (long) (value - TWO_POW_63) + Long.MIN_VALUE : (long) value;
+    }
+
+    /**
+     * 기존 노드의 가중치, 점유량, 소유 구간 (긴 구간 우선)
+     */
+    private static final class Owner {
+        private final int weight;
+        private final PriorityQueue<long[]> ranges;
+        private double owned;
+
+        private Owner(int weight) {
+            this.weight = weight;
+            this.ranges = new PriorityQueue<>((a, b) -> {
+                int byLength = Long.compareUnsigned(b[1] - 1, a[1] - 1); // 길이 0(전체)을 가장 길게
+                return byLength != 0 ? byLength : Long.compare(a[0], b[0]);
+            });
+        }
+
+        private void add(long[] range, double size) {
+            ranges.add(range);
+            owned += size;
+        }
+
+        private double ratio() {
+            return owned / weight;
+        }
+    }
+}
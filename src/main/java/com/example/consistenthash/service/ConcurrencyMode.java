@@ -0,0 +1,31 @@
+package com.example.consistenthash.service;
+
+/**
+ * 해시 링 조회/변경 동시성 모드
+ */
+public enum ConcurrencyMode {
+
+    /**
+     * 변경마다 불변 스냅샷을 새로 만들어 교체 (조회는 락 없이 스냅샷 탐색, 변경은 O(토큰 수) 재구성)
+     * 멤버십 변경이 드문 일반적인 경우에 적합.
+     */
+    SNAPSHOT,
+
+    /**
+     * 정렬된 토큰 배열을 제자리에서 수정하고 조회는 StampedLock 낙관적 읽기로 수행
+     * 변경 시 스냅샷 재구성과 할당이 없어 멤버십 변경이 매우 잦은 클러스터에 적합.
+     * 스냅샷이 필요한 조회(복제본, 일괄 조회, 링 정보 등)는 변경 후 첫 호출 때 스냅샷을 만들어 재사용.
+     */
+    OPTIMISTIC;
+
+    /**
+     * 설정 값으로 모드 조회 (snapshot, optimistic)
+     */
+    public static ConcurrencyMode of(String name) {
+        return switch (name.trim().toLowerCase()) {
+            case "snapshot" -> SNAPSHOT;
+            case "optimistic" -> OPTIMISTIC;
+            default -> throw new IllegalArgumentException("지원하지 않는 동시성 모드입니다: " + name);
+        };
+    }
+}
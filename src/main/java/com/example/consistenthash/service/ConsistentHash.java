@@ -1,71 +1,507 @@
 package com.example.consistenthash.service;
 
 import com.example.consistenthash.model.Node;
-import org.springframework.stereotype.Component;
+import com.example.consistenthash.service.hash.HashFunction;
+import com.example.consistenthash.service.hash.Sha1HashFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
 
 /**
  * 안정 해시(Consistent Hashing) 구현 클래스
  * 분산 시스템에서 데이터를 균등하게 분산하고, 노드 추가/제거 시 최소한의 재배치만 발생.
  */
-@Component
-public class ConsistentHash {
+public class ConsistentHash implements ConsistentHashEngine {
 
-    private static final int DEFAULT_VIRTUAL_NODES = 150; // 각 물리 노드당 가상 노드 수
-    private static final String HASH_ALGORITHM = "SHA-1";
+    private static final Logger log = LoggerFactory.getLogger(ConsistentHash.class);
+
+    public static final String NAME = "ring";
+    public static final int DEFAULT_VIRTUAL_NODES = 150; // 가중치 1인 물리 노드당 가상 노드 수
+
+    private static final int PARALLEL_TOKEN_THRESHOLD = 8192; // 이 이상의 토큰은 ForkJoinPool에서 병렬로 해시
+    private static final int MERGE_MIN_TOKENS = 1024; // 일괄 추가 토큰이 이 이상이면 정렬 후 링과 병합
+    private static final int MERGE_RING_RATIO = 4; // 추가 토큰 × 이 값이 링 크기 이상일 때만 병합 (아니면 토큰별 put)
+    private static final int EVENT_QUEUE_CAPACITY = 1024; // 전달 대기 중인 이벤트 수 상한 (넘으면 버림)
 
     private final int virtualNodesCount;
-    private final TreeMap<Long, Node> ring; // 해시 링 (정렬된 맵)
+    private final HashFunction hashFunction; // 토큰/키 해시 함수
+    private final TokenAllocation tokenAllocation; // 가상 노드 토큰 배치 전략
+    private TreeMap<Long, Node> ring; // 해시 링 (정렬된 맵, 일괄 병합 시 교체하므로 쓰기 락 안에서만 대입)
     private final Map<String, Node> nodes; // 물리 노드들
-    private final ReadWriteLock lock; // 동시성 제어
+    private final Map<String, long[]> nodeTokens; // 노드별 가상 노드 토큰 (인덱스 = 가상 노드 번호, 쓰기 락으로 보호)
+    private final Map<Long, List<Node>> contenders; // 충돌한 토큰의 대기 소유자 (쓰기 락으로 보호, 보통 비어 있음)
+    private boolean collisionTouched; // 이번 변경에서 충돌 토큰을 건드렸는지 (쓰기 락으로 보호)
+    private final ReadWriteLock lock; // 동시성 제어 (변경 작업 직렬화)
+    private final ConcurrencyMode concurrencyMode;
+    private final StampedRing stampedRing; // 낙관적 읽기 모드의 조회용 링 (스냅샷 모드면 null)
+    private volatile RingSnapshot snapshot; // 조회용 불변 스냅샷 (낙관적 읽기 모드에서 null이면 다음 사용 시 생성)
+    private volatile long epoch; // 멤버십 변경 번호 (쓰기 락 안에서만 증가)
+    private final List<RingDeltaListener> deltaListeners; // 멤버십 변경분 수신자
+    private final List<RingEventListener> eventListeners; // 멤버십 변경 이벤트 수신자
+    private final ThreadPoolExecutor eventDispatcher; // 이벤트 전달 스레드 (유휴 시 종료)
+    private final LongAdder droppedEvents; // 큐가 가득 차서 버린 이벤트 수
+
+    // 부하 제한(Bounded Load) 모드 상태
+    private final Map<String, AtomicLong> loads; // 노드별 현재 할당 수 (멤버십마다 새 카운터)
+    private final LongAdder totalLoad; // 전체 할당 수
+    private volatile double loadBalancingFactor = -1; // ε (음수면 비활성)
 
     public ConsistentHash() {
         this(DEFAULT_VIRTUAL_NODES);
     }
 
     public ConsistentHash(int virtualNodesCount) {
+        this(virtualNodesCount, Sha1HashFunction.INSTANCE);
+    }
+
+    public ConsistentHash(int virtualNodesCount, HashFunction hashFunction) {
+        this(virtualNodesCount, hashFunction, TokenAllocation.HASHED);
+    }
+
+    public ConsistentHash(int virtualNodesCount, HashFunction hashFunction, TokenAllocation tokenAllocation) {
+        this(virtualNodesCount, hashFunction, tokenAllocation, ConcurrencyMode.SNAPSHOT);
+    }
+
+    public ConsistentHash(int virtualNodesCount, HashFunction hashFunction, TokenAllocation tokenAllocation,
+                          ConcurrencyMode concurrencyMode) {
         this.virtualNodesCount = virtualNodesCount;
+        this.hashFunction = hashFunction;
+        this.tokenAllocation = tokenAllocation;
         this.ring = new TreeMap<>();
         this.nodes = new ConcurrentHashMap<>();
+        this.nodeTokens = new HashMap<>();
+        this.contenders = new HashMap<>();
         this.lock = new ReentrantReadWriteLock();
+        this.concurrencyMode = concurrencyMode;
+        this.stampedRing = concurrencyMode == ConcurrencyMode.OPTIMISTIC ? new StampedRing() : null;
+        this.snapshot = RingSnapshot.EMPTY;
+        this.deltaListeners = new CopyOnWriteArrayList<>();
+        this.eventListeners = new CopyOnWriteArrayList<>();
+        this.droppedEvents = new LongAdder();
+        this.eventDispatcher = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(EVENT_QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "ring-event-dispatcher");
+                    thread.setDaemon(true);
+                    return thread;
+                }, (runnable, executor) -> droppedEvents.increment());
+        this.eventDispatcher.allowCoreThreadTimeOut(true);
+        this.loads = new ConcurrentHashMap<>();
+        this.totalLoad = new LongAdder();
+    }
+
+    @Override
+    public String name() {
+        return NAME;
     }
 
     /**
-     * 노드를 링에 추가
+     * 노드를 링에 추가 (가상 노드 수 = 기본 가상 노드 수 × 가중치)
      */
+    @Override
     public void addNode(Node node) {
+        long started = System.nanoTime();
+        // 해시 배치의 토큰은 링 상태와 무관하므로 락을 잡기 전에 계산
+        long[] precomputed = tokenAllocation == TokenAllocation.HASHED ? hashedTokens(node) : null;
+
         lock.writeLock().lock();
         try {
             if (nodes.containsKey(node.getId())) {
                 return; // 이미 존재하는 노드
             }
 
-            nodes.put(node.getId(), node);
+            long[] tokens = attach(node, precomputed);
+            syncStampedRing(() -> stampedRing.insert(tokens, 0, tokens.length, node));
+            publish();
+            fireDelta(RingDelta.Type.NODE_ADDED, node, tokens, null);
+            if (!eventListeners.isEmpty()) {
+                fireEvent(new RingEvent(RingDelta.Type.NODE_ADDED, epoch, node.getId(), node.getWeight(),
+                        node.getWeight(), tokens.length, 1, 0, System.nanoTime() - started,
+                        ownedShare(tokens, node.getId())));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 운영 중인 노드의 가중치 변경
+     * 늘어난 만큼의 가상 노드만 추가하거나 줄어든 만큼의 마지막 가상 노드만 제거하므로,
+     * 유지되는 가상 노드의 키는 이동하지 않음.
+     */
+    @Override
+    public boolean updateWeight(String nodeId, int weight) {
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            Node current = nodes.get(nodeId);
+            if (current == null) {
+                return false;
+            }
+            if (current.getWeight() == weight) {
+                return true;
+            }
+
+            Node updated = current.withWeight(weight);
+            long[] tokens = nodeTokens.get(nodeId);
+            long[] resized = Arrays.copyOf(tokens, virtualNodeCount(weight));
 
-            // 가상 노드들을 링에 추가
-            for (int i = 0; i < virtualNodesCount; i++) {
-                String virtualNodeKey = node.getId() + "#" + i;
-                long hash = hash(virtualNodeKey);
-                ring.put(hash, node);
+            int kept = Math.min(tokens.length, resized.length);
+            // 노드는 구간을 얻기만 하거나 잃기만 하므로 이동 비율 = 변경 전후 점유율 차이
+            double shareBefore = eventListeners.isEmpty() ? 0 : ownedShare(tokens, nodeId);
+            for (int i = 0; i < kept; i++) {
+                reassign(tokens[i], current, updated); // 재해시 없이 소유 노드만 교체
+            }
+            if (resized.length > tokens.length) {
+                allocateTokens(ring, updated, resized, tokens.length);
+                for (int i = tokens.length; i < resized.length; i++) {
+                    claim(resized[i], updated);
+                }
+            } else {
+                for (int i = resized.length; i < tokens.length; i++) {
+                    release(tokens[i], current);
+                }
             }
+            syncStampedRing(() -> {
+                stampedRing.replaceOwner(tokens, 0, kept, current, updated);
+                if (resized.length > tokens.length) {
+                    stampedRing.insert(resized, tokens.length, resized.length, updated);
+                } else {
+                    stampedRing.remove(tokens, resized.length, tokens.length, current);
+                }
+            });
 
-            System.out.printf("노드 추가됨: %s (가상 노드 %d개)%n",
-                    node.getId(), virtualNodesCount);
+            nodes.put(nodeId, updated);
+            nodeTokens.put(nodeId, resized);
+            publish();
+            if (resized.length > tokens.length) {
+                fireDelta(RingDelta.Type.WEIGHT_CHANGED, updated,
+                        Arrays.copyOfRange(resized, tokens.length, resized.length), null);
+            } else {
+                fireDelta(RingDelta.Type.WEIGHT_CHANGED, updated,
+                        null, Arrays.copyOfRange(tokens, resized.length, tokens.length));
+            }
+            if (!eventListeners.isEmpty()) {
+                double movedShare = Math.abs(ownedShare(resized, nodeId) - shareBefore);
+                fireEvent(new RingEvent(RingDelta.Type.WEIGHT_CHANGED, epoch, nodeId, current.getWeight(), weight,
+                        resized.length, 0, 0, System.nanoTime() - started, movedShare));
+            }
+            return true;
         } finally {
             lock.writeLock().unlock();
         }
     }
 
+    /**
+     * 변경 번호를 올리고 현재 링의 스냅샷을 교체 (쓰기 락 안에서 호출)
+     * 낙관적 읽기 모드에서는 스냅샷을 버리기만 하고 다음 사용 시 만듦.
+     * 스냅샷을 먼저 교체하므로 번호를 먼저 읽은 조회자는 그 번호 이후의 내용을 봄.
+     */
+    private void publish() {
+        long next = epoch + 1;
+        snapshot = stampedRing != null ? null : RingSnapshot.of(ring, hashFunction.nonNegative(), next);
+        epoch = next;
+        collisionTouched = false;
+    }
+
+    /**
+     * 낙관적 읽기 링에 변경 반영 (쓰기 락 안에서 호출)
+     * 충돌 토큰을 건드렸으면 대기 소유자 승계까지 반영되도록 링 전체를 다시 적재.
+     */
+    private void syncStampedRing(Runnable incremental) {
+        if (stampedRing == null) {
+            return;
+        }
+        if (collisionTouched) {
+            stampedRing.load(ring);
+        } else {
+            incremental.run();
+        }
+    }
+
+    /**
+     * 현재 링의 불변 스냅샷 (낙관적 읽기 모드에서 변경 후 처음 호출되면 읽기 락 안에서 생성)
+     */
+    private RingSnapshot currentSnapshot() {
+        RingSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        lock.readLock().lock();
+        try {
+            return snapshotLocked();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * currentSnapshot과 같으나 호출자가 이미 락을 잡고 있는 경우 사용
+     */
+    private RingSnapshot snapshotLocked() {
+        RingSnapshot current = snapshot;
+        if (current == null) {
+            // 여러 조회자가 동시에 만들어도 결과는 같고, 쓰기 락과는 배타적이므로 오래된 스냅샷을 덮어쓰지 않음
+            current = RingSnapshot.of(ring, hashFunction.nonNegative(), epoch);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    /**
+     * 방금 발행한 스냅샷의 변경분을 수신자에게 전달 (쓰기 락 안에서 호출되므로 변경 순서가 보장됨)
+     */
+    private void fireDelta(RingDelta.Type type, Node node, long[] addedTokens, long[] removedTokens) {
+        if (deltaListeners.isEmpty()) {
+            return;
+        }
+        fireDelta(new RingDelta(type, epoch, node, addedTokens, removedTokens));
+    }
+
+    private void fireDelta(RingDelta delta) {
+        for (RingDeltaListener listener : deltaListeners) {
+            try {
+                listener.onDelta(delta);
+            } catch (RuntimeException e) {
+                // 수신자 오류가 멤버십 변경을 실패시키지 않도록 무시
+                log.warn("변경분 전달 실패 ({})", delta, e);
+            }
+        }
+    }
+
+    @Override
+    public void addDeltaListener(RingDeltaListener listener) {
+        deltaListeners.add(listener);
+    }
+
+    @Override
+    public void removeDeltaListener(RingDeltaListener listener) {
+        deltaListeners.remove(listener);
+    }
+
+    /**
+     * 변경 이벤트를 전달 큐에 넣음 (쓰기 락 안에서 호출되므로 큐 순서 = 변경 순서)
+     * 큐에 넣기만 하고 막히지 않으며, 수신자 호출은 전달 스레드에서 락 없이 수행.
+     */
+    private void fireEvent(RingEvent event) {
+        if (eventListeners.isEmpty()) {
+            return;
+        }
+        eventDispatcher.execute(() -> {
+            for (RingEventListener listener : eventListeners) {
+                try {
+                    listener.onEvent(event);
+                } catch (RuntimeException e) {
+                    log.warn("변경 이벤트 전달 실패 ({})", event, e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void addEventListener(RingEventListener listener) {
+        eventListeners.add(listener);
+    }
+
+    @Override
+    public void removeEventListener(RingEventListener listener) {
+        eventListeners.remove(listener);
+    }
+
+    /**
+     * 전달 큐가 가득 차서 버린 변경 이벤트 수
+     */
+    public long getDroppedEventCount() {
+        return droppedEvents.sum();
+    }
+
+    /**
+     * 노드의 토큰 중 링에서 실제로 소유한 토큰이 담당하는 키 공간 비율, 즉 노드의 점유율 (쓰기 락 안에서 호출)
+     * 노드 하나의 토큰만 링에서 찾으므로 O(k log n).
+     */
+    private double ownedShare(long[] tokens, String nodeId) {
+        if (ring.isEmpty()) {
+            return 0;
+        }
+        long[] sorted = tokens.clone();
+        Arrays.sort(sorted); // 같은 노드의 가상 노드끼리 겹친 토큰은 한 번만 계산
+
+        double arcs = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            long token = sorted[i];
+            Node owner = ring.get(token);
+            if ((i > 0 && sorted[i - 1] == token) || owner == null || !owner.getId().equals(nodeId)) {
+                continue;
+            }
+            Long previous = ring.lowerKey(token);
+            arcs += arcLength(previous != null ? previous : ring.lastKey(), token);
+        }
+        return arcs / keySpace();
+    }
+
+    /**
+     * 링 전체를 한 번 훑어 nodeIds가 소유한 토큰이 담당하는 키 공간 비율 계산 (쓰기 락 안에서 호출)
+     */
+    private double ownedShare(Set<String> nodeIds) {
+        if (ring.isEmpty() || nodeIds.isEmpty()) {
+            return 0;
+        }
+        double arcs = 0;
+        long previous = ring.lastKey();
+        for (Map.Entry<Long, Node> entry : ring.entrySet()) {
+            long token = entry.getKey();
+            if (nodeIds.contains(entry.getValue().getId())) {
+                arcs += arcLength(previous, token);
+            }
+            previous = token;
+        }
+        return arcs / keySpace();
+    }
+
+    /**
+     * (previous, token] 구간 길이 (같으면 토큰이 하나뿐이므로 키 공간 전체)
+     */
+    private double arcLength(long previous, long token) {
+        long arc = (token - previous) & (hashFunction.nonNegative() ? Long.MAX_VALUE : -1L);
+        return arc == 0 ? keySpace() : (double) (arc >>> 1) * 2 + (arc & 1);
+    }
+
+    private double keySpace() {
+        return hashFunction.nonNegative() ? 0x1.0p63 : 0x1.0p64;
+    }
+
+    /**
+     * from번 이후의 가상 노드 토큰을 배치 전략에 따라 정함 (링에는 추가하지 않음)
+     *
+     * @param view 균형 배치가 현재 소유 구간을 계산할 링
+     */
+    private void allocateTokens(NavigableMap<Long, Node> view, Node node, long[] tokens, int from) {
+        if (tokenAllocation == TokenAllocation.BALANCED) {
+            long[] allocated = BalancedTokenAllocator.allocate(view, node, tokens.length - from,
+                    hash(node.getId()), hashFunction.nonNegative());
+            System.arraycopy(allocated, 0, tokens, from, allocated.length);
+            return;
+        }
+
+        for (int i = from; i < tokens.length; i++) {
+            String virtualNodeKey = node.getId() + "#" + i;
+            tokens[i] = hash(virtualNodeKey);
+        }
+    }
+
+    /**
+     * 토큰을 노드의 가상 노드로 등록 (쓰기 락 안에서 호출)
+     * 다른 가상 노드가 이미 같은 토큰을 가지면 ID가 작은 노드가 소유하고 나머지는 대기 소유자로 보관.
+     * 소유자는 합류 순서와 무관하게 멤버십만으로 정해지며, 소유자가 떠나면 대기 소유자가 토큰을 이어받음.
+     */
+    private void claim(long token, Node node) {
+        Node owner = ring.putIfAbsent(token, node);
+        if (owner == null) {
+            return;
+        }
+
+        collisionTouched = true;
+        List<Node> waiting = contenders.computeIfAbsent(token, t -> new ArrayList<>(1));
+        if (precedes(node, owner)) {
+            ring.put(token, node);
+            waiting.add(owner);
+        } else {
+            waiting.add(node);
+        }
+    }
+
+    /**
+     * 노드의 가상 노드 토큰 하나를 해제 (쓰기 락 안에서 호출)
+     * 노드가 소유자면 대기 소유자 중 ID가 가장 작은 노드가 이어받고, 대기 중이면 대기 목록에서만 빠짐.
+     * 다른 노드의 소유나 대기는 건드리지 않음.
+     */
+    private void release(long token, Node node) {
+        List<Node> waiting = contenders.get(token);
+        if (waiting == null) {
+            ring.remove(token, node);
+            return;
+        }
+
+        collisionTouched = true;
+        Node owner = ring.get(token);
+        if (owner != null && owner.getId().equals(node.getId())) {
+            Node successor = first(waiting, null);
+            waiting.remove(successor);
+            ring.put(token, successor);
+        } else {
+            // 같은 노드의 가상 노드끼리 충돌했을 수 있으므로 하나만 제거
+            for (int i = 0; i < waiting.size(); i++) {
+                if (waiting.get(i).getId().equals(node.getId())) {
+                    waiting.remove(i);
+                    break;
+                }
+            }
+        }
+        if (waiting.isEmpty()) {
+            contenders.remove(token);
+        }
+    }
+
+    /**
+     * 토큰의 소유 노드 정보만 교체 (가중치 변경, 쓰기 락 안에서 호출)
+     */
+    private void reassign(long token, Node current, Node updated) {
+        ring.replace(token, current, updated);
+        List<Node> waiting = contenders.get(token);
+        if (waiting != null) {
+            waiting.replaceAll(candidate -> candidate.getId().equals(current.getId()) ? updated : candidate);
+        }
+    }
+
+    /**
+     * 충돌한 토큰을 a가 b보다 우선하여 소유하는지 (노드 ID 사전순)
+     */
+    private static boolean precedes(Node a, Node b) {
+        return a.getId().compareTo(b.getId()) < 0;
+    }
+
+    /**
+     * 후보 중 ID가 가장 작은 노드 (excludedId 노드는 제외, 후보가 없으면 null)
+     */
+    private static Node first(List<Node> candidates, String excludedId) {
+        Node first = null;
+        for (Node candidate : candidates) {
+            if (!candidate.getId().equals(excludedId) && (first == null || precedes(candidate, first))) {
+                first = candidate;
+            }
+        }
+        return first;
+    }
+
+    private int virtualNodeCount(int weight) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("노드 가중치는 1 이상이어야 합니다: " + weight);
+        }
+        if (weight > Node.MAX_WEIGHT) {
+            throw new IllegalArgumentException(String.format(
+                    "노드 가중치는 %d 이하여야 합니다: %d", Node.MAX_WEIGHT, weight));
+        }
+        return Math.multiplyExact(virtualNodesCount, weight);
+    }
+
     /**
      * 노드를 링에서 제거
      */
+    @Override
     public void removeNode(String nodeId) {
+        long started = System.nanoTime();
         lock.writeLock().lock();
         try {
             Node node = nodes.remove(nodeId);
@@ -73,112 +509,653 @@ public class ConsistentHash {
                 return; // 존재하지 않는 노드
             }
 
-            // 해당 노드의 모든 가상 노드를 링에서 제거
-            for (int i = 0; i < virtualNodesCount; i++) {
-                String virtualNodeKey = nodeId + "#" + i;
-                long hash = hash(virtualNodeKey);
-                ring.remove(hash);
+            // 제거 전에 노드가 담당하던 구간 계산
+            long[] owned = nodeTokens.get(nodeId);
+            double movedShare = eventListeners.isEmpty() ? 0 : ownedShare(owned, nodeId);
+            long[] tokens = detach(node);
+            syncStampedRing(() -> stampedRing.remove(tokens, 0, tokens.length, node));
+            publish();
+            fireDelta(RingDelta.Type.NODE_REMOVED, node, null, tokens);
+            fireEvent(new RingEvent(RingDelta.Type.NODE_REMOVED, epoch, nodeId, node.getWeight(), node.getWeight(),
+                    tokens.length, 0, 1, System.nanoTime() - started, movedShare));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 두 스냅샷 사이에서 담당 노드가 바뀐 해시 구간 목록 (이 링의 해시 함수 키 공간 기준)
+     * 키 이동 시 해시 값이 반환된 구간에 속하는 키만 옮기면 됨.
+     */
+    public List<MovedRange> diff(RingSnapshot before, RingSnapshot after) {
+        return RingSnapshot.diff(before, after, hashFunction.nonNegative());
+    }
+
+    /**
+     * 노드를 추가하면 이동할 해시 구간 목록 (링은 변경하지 않음, 이미 존재하는 노드면 빈 목록)
+     * 토큰 배치는 결정적이므로 그 사이 다른 변경이 없으면 실제 addNode 결과와 같음.
+     */
+    @Override
+    public List<MovedRange> previewAddNode(Node node) {
+        lock.readLock().lock();
+        try {
+            if (nodes.containsKey(node.getId())) {
+                return new ArrayList<>();
             }
 
-            System.out.printf("노드 제거됨: %s%n", nodeId);
+            TreeMap<Long, Node> proposed = new TreeMap<>(ring);
+            long[] tokens = new long[virtualNodeCount(node.getWeight())];
+            allocateTokens(proposed, node, tokens, 0);
+            for (long token : tokens) {
+                proposed.merge(token, node, (owner, added) -> precedes(added, owner) ? added : owner);
+            }
+            return diff(snapshotLocked(), RingSnapshot.of(proposed, hashFunction.nonNegative(), epoch + 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 노드를 제거하면 이동할 해시 구간 목록 (링은 변경하지 않음, 존재하지 않는 노드면 빈 목록)
+     */
+    @Override
+    public List<MovedRange> previewRemoveNode(String nodeId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(nodeId);
+            if (node == null) {
+                return new ArrayList<>();
+            }
+
+            TreeMap<Long, Node> proposed = new TreeMap<>(ring);
+            for (long token : nodeTokens.get(nodeId)) {
+                if (!proposed.remove(token, node)) {
+                    continue; // 다른 노드가 소유한 충돌 토큰
+                }
+                List<Node> waiting = contenders.get(token);
+                Node successor = waiting != null ? first(waiting, nodeId) : null;
+                if (successor != null) {
+                    proposed.put(token, successor);
+                }
+            }
+            return diff(snapshotLocked(), RingSnapshot.of(proposed, hashFunction.nonNegative(), epoch + 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 여러 노드를 한 번에 제거하고 추가 (하나의 쓰기 락 안에서 적용하며 변경 번호는 한 번만 증가)
+     * 조회자는 변경 전 또는 변경 후의 링만 보며 중간 토폴로지를 보지 않음.
+     * 해시 배치의 토큰은 락을 잡기 전에 (많으면 병렬로) 계산하고 정렬해 두므로, 락을 잡은 동안에는
+     * 기존 링과 한 번 병합하는 O(토큰 수) 재구성만 수행.
+     * 제거를 먼저 적용하므로 같은 ID를 제거 후 추가하여 노드 정보를 교체할 수 있으며,
+     * 존재하지 않는 노드의 제거와 이미 존재하는 노드의 추가는 무시.
+     */
+    @Override
+    public void replaceNodes(Collection<String> nodeIdsToRemove, Collection<Node> nodesToAdd) {
+        long started = System.nanoTime();
+        List<Node> additions = new ArrayList<>(nodesToAdd);
+        long[][] precomputed = new long[additions.size()][];
+        long[] runTokens = null; // 모든 추가 토큰을 정렬한 묶음
+        int[] runSources = null; // runTokens[i]를 가진 노드의 additions 내 순번
+        for (Node node : additions) {
+            virtualNodeCount(node.getWeight()); // 제거를 적용하기 전에 가중치 상한 검증
+        }
+        if (tokenAllocation == TokenAllocation.HASHED) {
+            precomputed = hashedTokens(additions);
+
+            int total = 0;
+            for (long[] tokens : precomputed) {
+                total = Math.addExact(total, tokens.length);
+            }
+            if (total >= MERGE_MIN_TOKENS) {
+                runTokens = new long[total];
+                runSources = new int[total];
+                int offset = 0;
+                for (int i = 0; i < precomputed.length; i++) {
+                    System.arraycopy(precomputed[i], 0, runTokens, offset, precomputed[i].length);
+                    Arrays.fill(runSources, offset, offset + precomputed[i].length, i);
+                    offset += precomputed[i].length;
+                }
+                PairSort.sort(runTokens, runSources);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            long next = epoch + 1;
+            List<RingDelta> changes = new ArrayList<>();
+            int removedCount = 0;
+            // 제거 전에 제거될 노드들이 담당하던 구간 계산 (링을 한 번 훑음)
+            double movedShare = eventListeners.isEmpty() ? 0 : ownedShare(new HashSet<>(nodeIdsToRemove));
+            for (String nodeId : nodeIdsToRemove) {
+                Node node = nodes.remove(nodeId);
+                if (node != null) {
+                    changes.add(new RingDelta(RingDelta.Type.NODE_REMOVED, next, node, null, detach(node)));
+                    removedCount++;
+                }
+            }
+            boolean merge = runTokens != null && (long) runTokens.length * MERGE_RING_RATIO >= ring.size();
+            boolean[] accepted = new boolean[additions.size()];
+            for (int i = 0; i < precomputed.length; i++) {
+                Node node = additions.get(i);
+                if (!nodes.containsKey(node.getId())) {
+                    long[] tokens = merge ? register(node, precomputed[i]) : attach(node, precomputed[i]);
+                    changes.add(new RingDelta(RingDelta.Type.NODE_ADDED, next, node, tokens, null));
+                    accepted[i] = true;
+                }
+            }
+            if (changes.isEmpty()) {
+                return;
+            }
+            if (merge) {
+                mergeIntoRing(runTokens, runSources, additions, accepted);
+            }
+
+            if (stampedRing != null) {
+                stampedRing.load(ring);
+            }
+            publish();
+            fireDelta(new RingDelta(next, changes));
+            if (!eventListeners.isEmpty()) {
+                Set<String> addedIds = new HashSet<>();
+                for (int i = 0; i < additions.size(); i++) {
+                    if (accepted[i]) {
+                        addedIds.add(additions.get(i).getId());
+                    }
+                }
+                movedShare = Math.min(1.0, movedShare + ownedShare(addedIds));
+                fireEvent(new RingEvent(RingDelta.Type.BATCH, next, null, 0, 0, ring.size(),
+                        changes.size() - removedCount, removedCount, System.nanoTime() - started, movedShare));
+            }
         } finally {
             lock.writeLock().unlock();
         }
     }
 
+    /**
+     * 노드를 멤버와 링에 등록하고 토큰 반환 (쓰기 락 안에서 호출)
+     *
+     * @param precomputed 락 밖에서 미리 계산한 해시 배치 토큰 (없으면 null)
+     */
+    private long[] attach(Node node, long[] precomputed) {
+        long[] tokens = precomputed;
+        if (tokens == null) {
+            tokens = new long[virtualNodeCount(node.getWeight())];
+            allocateTokens(ring, node, tokens, 0);
+        }
+        for (long token : tokens) {
+            claim(token, node);
+        }
+        return register(node, tokens);
+    }
+
+    /**
+     * 노드와 토큰을 멤버로만 등록 (링 반영은 호출자가 수행, 쓰기 락 안에서 호출)
+     */
+    private long[] register(Node node, long[] tokens) {
+        nodes.put(node.getId(), node);
+        loads.put(node.getId(), new AtomicLong());
+        nodeTokens.put(node.getId(), tokens);
+        return tokens;
+    }
+
+    /**
+     * 정렬된 새 토큰 묶음을 기존 링과 한 번에 병합하여 링을 다시 구성 (쓰기 락 안에서 호출)
+     * 기존 토큰과 새 토큰을 한 번씩만 훑고 새 TreeMap은 정렬된 맵을 선형 시간에 복사하는 생성자로 만들므로,
+     * 많은 토큰을 추가할 때 토큰별 put(O(k log n))보다 빠름.
+     * 같은 토큰은 claim과 같이 ID가 작은 노드가 소유하고 나머지는 대기 소유자로 보관.
+     */
+    private void mergeIntoRing(long[] runTokens, int[] runSources, List<Node> additions, boolean[] accepted) {
+        int capacity = ring.size() + runTokens.length;
+        long[] tokens = new long[capacity];
+        Node[] owners = new Node[capacity];
+        int count = 0;
+
+        Iterator<Map.Entry<Long, Node>> existing = ring.entrySet().iterator();
+        Map.Entry<Long, Node> entry = existing.hasNext() ? existing.next() : null;
+        int r = 0;
+        while (entry != null || r < runTokens.length) {
+            long token;
+            Node owner;
+            if (entry == null || (r < runTokens.length && runTokens[r] < entry.getKey())) {
+                int source = runSources[r];
+                token = runTokens[r++];
+                if (!accepted[source]) {
+                    continue; // 이미 존재하여 추가하지 않은 노드
+                }
+                owner = additions.get(source);
+            } else {
+                token = entry.getKey();
+                owner = entry.getValue();
+                entry = existing.hasNext() ? existing.next() : null;
+            }
+
+            if (count > 0 && tokens[count - 1] == token) {
+                // 충돌: ID가 작은 노드가 소유하고 나머지는 대기
+                List<Node> waiting = contenders.computeIfAbsent(token, t -> new ArrayList<>(1));
+                if (precedes(owner, owners[count - 1])) {
+                    waiting.add(owners[count - 1]);
+                    owners[count - 1] = owner;
+                } else {
+                    waiting.add(owner);
+                }
+                collisionTouched = true;
+                continue;
+            }
+            tokens[count] = token;
+            owners[count++] = owner;
+        }
+
+        ring = new TreeMap<>(new SortedTokenRun(tokens, owners, count)); // 정렬된 맵 복사는 선형 시간
+    }
+
+    /**
+     * 멤버에서 이미 뺀 노드의 토큰을 링에서 제거하고 반환 (쓰기 락 안에서 호출)
+     */
+    private long[] detach(Node node) {
+        // 제거된 노드의 할당은 전체 부하에서 제외
+        AtomicLong load = loads.remove(node.getId());
+        if (load != null) {
+            totalLoad.add(-load.get());
+        }
+
+        // 해당 노드의 모든 가상 노드를 링에서 제거 (저장된 토큰 사용, 재해시 없음)
+        long[] tokens = nodeTokens.remove(node.getId());
+        for (long token : tokens) {
+            release(token, node);
+        }
+        return tokens;
+    }
+
+    /**
+     * 해시 배치의 가상 노드 토큰 hash(노드ID#번호) (링 상태와 무관하므로 락 밖에서 계산 가능)
+     * 가중치가 커서 토큰이 많으면 공용 ForkJoinPool에서 병렬로 해시.
+     */
+    private long[] hashedTokens(Node node) {
+        long[] tokens = new long[virtualNodeCount(node.getWeight())];
+        IntStream indexes = IntStream.range(0, tokens.length);
+        if (tokens.length >= PARALLEL_TOKEN_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> tokens[i] = hash(node.getId() + "#" + i));
+        return tokens;
+    }
+
+    /**
+     * 여러 노드의 해시 배치 토큰 (전체 토큰이 많으면 노드 단위로 공용 ForkJoinPool에서 병렬 계산)
+     */
+    private long[][] hashedTokens(List<Node> additions) {
+        long total = 0;
+        for (Node node : additions) {
+            total += virtualNodeCount(node.getWeight());
+        }
+
+        long[][] tokens = new long[additions.size()][];
+        IntStream indexes = IntStream.range(0, tokens.length);
+        if (total >= PARALLEL_TOKEN_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> tokens[i] = hashedTokens(additions.get(i)));
+        return tokens;
+    }
+
     /**
      * 주어진 키에 대해 담당 노드를 찾음
+     * 해시 값 이상인 첫 토큰, 없으면 링의 처음 토큰의 소유 노드 (읽기 락을 잡지 않음)
      */
+    @Override
     public Node getNode(String key) {
-        if (ring.isEmpty()) {
+        return getNode((CharSequence) key);
+    }
+
+    /**
+     * 문자 시퀀스 키의 담당 노드 (UTF-8 바이트를 중간 byte[] 생성 없이 해시)
+     */
+    @Override
+    public Node getNode(CharSequence key) {
+        return locate(hashFunction.hash(key));
+    }
+
+    /**
+     * 바이트 배열 키의 담당 노드 (복사 없이 해시)
+     */
+    public Node getNode(byte[] key) {
+        return locate(hashFunction.hash(key, 0, key.length));
+    }
+
+    /**
+     * 버퍼 키의 담당 노드 (position~limit 구간을 복사 없이 해시, position은 변경하지 않음)
+     */
+    public Node getNode(ByteBuffer key) {
+        return locate(hashFunction.hash(key));
+    }
+
+    /**
+     * 해시 값의 담당 노드 (스냅샷 모드는 락 없이 스냅샷 탐색, 낙관적 읽기 모드는 StampedLock 검증 탐색)
+     */
+    private Node locate(long hash) {
+        if (stampedRing != null) {
+            return stampedRing.getNode(hash);
+        }
+
+        RingSnapshot current = snapshot;
+        if (current.isEmpty()) {
             return null;
         }
 
-        lock.readLock().lock();
-        try {
-            long hash = hash(key);
+        return current.getNode(hash);
+    }
+
+    /**
+     * 키의 복제본을 저장할 서로 다른 물리 노드 count개를 시계방향 순서로 반환
+     * 첫 번째 노드는 getNode(key)와 같으며, 노드 수가 count보다 적으면 전체 노드를 반환.
+     */
+    @Override
+    public List<Node> getReplicas(String key, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("복제본 수는 1 이상이어야 합니다: " + count);
+        }
+
+        RingSnapshot current = currentSnapshot();
+        if (current.isEmpty()) {
+            return List.of();
+        }
 
-            // 해시 값보다 크거나 같은 첫 번째 항목 찾기 (시계방향)
-            Map.Entry<Long, Node> entry = ring.ceilingEntry(hash);
+        return current.getReplicas(hash(key), count);
+    }
+
+    /**
+     * 부하 제한 모드 설정 (Google, "Consistent Hashing with Bounded Loads")
+     * 각 노드의 용량은 ceil((1 + ε) × 평균 할당 수)이며, 담당 노드가 가득 차면 시계방향 다음 노드로 넘어감.
+     * 음수를 지정하면 비활성화되어 acquireNode가 항상 담당 노드를 반환.
+     */
+    public void setLoadBalancingFactor(double epsilon) {
+        this.loadBalancingFactor = epsilon;
+    }
 
-            // 찾지 못하면 링의 첫 번째 노드 (원형이므로)
-            if (entry == null) {
-                entry = ring.firstEntry();
+    public double getLoadBalancingFactor() {
+        return loadBalancingFactor;
+    }
+
+    /**
+     * 키를 처리할 노드를 선택하고 해당 노드의 할당 수를 1 증가 (링이 비어 있으면 null)
+     * 부하 제한 모드에서는 용량 미만인 노드를 만날 때까지 시계방향으로 이동.
+     * 동시 호출 시 용량 확인과 증가 사이의 경합으로 용량을 약간 넘을 수 있음.
+     * 처리가 끝나면 받은 NodeLease의 release로 할당을 반납해야 함.
+     */
+    public NodeLease acquire(String key) {
+        RingSnapshot current = currentSnapshot();
+        if (current.isEmpty()) {
+            return null;
+        }
+
+        long hash = hash(key);
+        double epsilon = loadBalancingFactor;
+        Node chosen = epsilon < 0 ? current.getNode(hash) : findNodeUnderCapacity(current, hash, epsilon);
+
+        AtomicLong load = loads.get(chosen.getId());
+        if (load != null) { // 조회 직후 제거된 노드면 부하를 기록하지 않음
+            load.incrementAndGet();
+            totalLoad.increment();
+        }
+        return new NodeLease(this, chosen, load);
+    }
+
+    /**
+     * acquire와 같으나 노드만 반환 (반납은 releaseNode로 ID 기준)
+     */
+    public Node acquireNode(String key) {
+        NodeLease lease = acquire(key);
+        return lease != null ? lease.getNode() : null;
+    }
+
+    /**
+     * NodeLease.release에서 호출 (할당 당시의 부하 카운터를 줄임)
+     * 노드가 이미 제거되었으면 그 부하는 제거 시 전체 할당 수에서 빠졌으므로 전체 할당 수는 그대로 둠.
+     * 카운터를 먼저 줄인 뒤 등록 여부를 확인하므로 동시에 제거되어도 전체 할당 수가 두 번 줄지 않음.
+     */
+    void releaseLease(NodeLease lease) {
+        AtomicLong load = lease.getLoad();
+        if (load != null && decrementIfPositive(load) && loads.get(lease.getNode().getId()) == load) {
+            totalLoad.decrement();
+        }
+    }
+
+    /**
+     * acquireNode로 받은 할당을 노드 ID로 반납
+     * ID만으로는 어느 멤버십의 할당인지 알 수 없으므로 (제거 후 같은 ID로 다시 추가된 경우) 0 아래로는 줄이지 않음.
+     * 정확한 반납이 필요하면 acquire와 NodeLease.release를 사용.
+     */
+    public void releaseNode(String nodeId) {
+        AtomicLong load = loads.get(nodeId);
+        if (load != null && decrementIfPositive(load)) {
+            totalLoad.decrement();
+        }
+    }
+
+    /**
+     * 할당 수를 0 아래로 내리지 않고 1 감소 (줄였으면 true)
+     * ID 반납과 NodeLease 반납이 섞여 같은 할당이 두 번 반납되어도 부하가 음수가 되지 않음.
+     */
+    private static boolean decrementIfPositive(AtomicLong load) {
+        return load.getAndUpdate(value -> value > 0 ? value - 1 : value) > 0;
+    }
+
+    /**
+     * 노드의 현재 할당 수
+     */
+    public long getLoad(String nodeId) {
+        AtomicLong load = loads.get(nodeId);
+        return load != null ? load.get() : 0;
+    }
+
+    private Node findNodeUnderCapacity(RingSnapshot current, long hash, double epsilon) {
+        // 새 할당을 포함한 평균 기준 용량
+        long capacity = (long) Math.ceil((1 + epsilon) * (totalLoad.sum() + 1) / current.nodeCount());
+
+        int size = current.size();
+        int index = current.ceilingIndex(hash);
+        for (int step = 0; step < size; step++) {
+            Node candidate = current.ownerAt(index);
+            AtomicLong load = loads.get(candidate.getId());
+            if (load == null || load.get() < capacity) {
+                return candidate;
+            }
+            if (++index == size) {
+                index = 0;
             }
+        }
 
-            return entry.getValue();
-        } finally {
-            lock.readLock().unlock();
+        // 경합으로 모든 노드가 용량을 넘은 경우 담당 노드 사용
+        return current.getNode(hash);
+    }
+
+    /**
+     * 여러 키의 담당 노드를 한 번에 조회 (키 → 노드, 입력 순서 유지)
+     * 하나의 스냅샷에서 모든 키를 해시하고 정렬하여 링과 한 번에 병합하므로 전체 배치가 같은 토폴로지를 봄.
+     * 링이 비어 있으면 빈 맵 반환.
+     */
+    @Override
+    public Map<String, Node> getNodes(Collection<String> keys) {
+        RingSnapshot current = currentSnapshot();
+        Map<String, Node> result = new LinkedHashMap<>();
+        if (current.isEmpty() || keys.isEmpty()) {
+            return result;
+        }
+
+        String[] keyArray = keys.toArray(new String[0]);
+        int[] owners = locateAll(current, keyArray);
+        for (int i = 0; i < keyArray.length; i++) {
+            result.put(keyArray[i], current.nodeAt(owners[i]));
+        }
+        return result;
+    }
+
+    /**
+     * 여러 키를 담당 노드별로 묶어서 반환 (노드 → 키 목록)
+     * 멀티 GET 팬아웃처럼 노드별 요청을 바로 만들 때 사용. 링이 비어 있으면 빈 맵 반환.
+     */
+    @Override
+    public Map<Node, List<String>> routeBatch(Collection<String> keys) {
+        RingSnapshot current = currentSnapshot();
+        Map<Node, List<String>> result = new LinkedHashMap<>();
+        if (current.isEmpty() || keys.isEmpty()) {
+            return result;
+        }
+
+        String[] keyArray = keys.toArray(new String[0]);
+        int[] owners = locateAll(current, keyArray);
+
+        // 노드 인덱스별로 먼저 모은 뒤 맵으로 변환 (Node 해시 계산을 키마다 하지 않음)
+        List<List<String>> groups = new ArrayList<>(Collections.nCopies(current.nodeCount(), null));
+        for (int i = 0; i < keyArray.length; i++) {
+            List<String> group = groups.get(owners[i]);
+            if (group == null) {
+                group = new ArrayList<>();
+                groups.set(owners[i], group);
+            }
+            group.add(keyArray[i]);
+        }
+
+        for (int nodeIndex = 0; nodeIndex < groups.size(); nodeIndex++) {
+            if (groups.get(nodeIndex) != null) {
+                result.put(current.nodeAt(nodeIndex), groups.get(nodeIndex));
+            }
+        }
+        return result;
+    }
+
+    private int[] locateAll(RingSnapshot current, String[] keys) {
+        long[] hashes = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            hashes[i] = hash(keys[i]);
         }
+        return current.locateAll(hashes);
+    }
+
+    /**
+     * 현재 링의 불변 스냅샷 반환
+     */
+    public RingSnapshot getSnapshot() {
+        return currentSnapshot();
     }
 
     /**
      * 현재 링 상태 정보 반환
+     * 데이터분포는 키 1000개 기준으로 환산한 정확한 점유율로, 스냅샷에 미리 계산된 값을 사용하므로 O(노드 수).
+     * 노드 목록은 멤버십 기준이므로 충돌로 토큰을 모두 빼앗긴 노드도 점유율 0으로 포함됨.
      */
+    @Override
     public Map<String, Object> getRingInfo() {
+        RingSnapshot current;
+        Map<String, Double> ownership;
         lock.readLock().lock();
         try {
-            Map<String, Object> info = new HashMap<>();
-            info.put("물리노드수", nodes.size());
-            info.put("가상노드수", ring.size());
-            info.put("노드목록", new ArrayList<>(nodes.keySet()));
-
-            // 각 물리 노드의 데이터 분포 계산
-            Map<String, Integer> distribution = calculateDistribution();
-            info.put("데이터분포", distribution);
-
-            return info;
+            current = snapshotLocked();
+            ownership = membershipOwnership(current);
         } finally {
             lock.readLock().unlock();
         }
+
+        Map<String, Integer> distribution = new HashMap<>();
+        ownership.forEach((nodeId, share) -> distribution.put(nodeId, (int) Math.round(share * 1000)));
+
+        Map<String, Object> info = new HashMap<>();
+        info.put("물리노드수", ownership.size());
+        info.put("가상노드수", current.size());
+        info.put("노드목록", new ArrayList<>(ownership.keySet()));
+        info.put("데이터분포", distribution);
+        info.put("점유율", ownership);
+
+        return info;
     }
 
     /**
-     * 테스트용: 샘플 키들에 대한 노드 분포 계산
+     * 현재 스냅샷을 바이너리 형식으로 내보냄 (RingClient로 로드하여 같은 결과로 조회 가능)
      */
-    private Map<String, Integer> calculateDistribution() {
-        Map<String, Integer> distribution = new HashMap<>();
+    @Override
+    public byte[] exportSnapshot() {
+        return RingSnapshotFormat.encode(currentSnapshot(), hashFunction);
+    }
 
-        // 샘플 키 1000개로 분포 테스트
-        for (int i = 0; i < 1000; i++) {
-            String key = "key_" + i;
-            Node node = getNode(key);
-            if (node != null) {
-                distribution.merge(node.getId(), 1, Integer::sum);
-            }
+    /**
+     * 멤버십 변경 번호 (노드 추가/제거/가중치 변경/초기화마다 1씩 증가)
+     */
+    @Override
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * 물리 노드별 정확한 키 공간 점유율 (0~1, 소유 토큰 구간 길이의 합, 토큰을 소유하지 않은 멤버는 0)
+     */
+    public Map<String, Double> getOwnership() {
+        lock.readLock().lock();
+        try {
+            return membershipOwnership(snapshotLocked());
+        } finally {
+            lock.readLock().unlock();
         }
+    }
 
-        return distribution;
+    /**
+     * 멤버십의 모든 노드에 대한 점유율 (링 순서, 토큰이 없는 멤버는 뒤에 0으로 추가, 읽기 락 안에서 호출)
+     * 스냅샷의 점유율은 링에 토큰이 있는 노드만 담으므로, 같은 시점의 멤버십과 맞추기 위해 락 안에서 합침.
+     */
+    private Map<String, Double> membershipOwnership(RingSnapshot current) {
+        Map<String, Double> ownership = current.getOwnership();
+        for (String nodeId : nodes.keySet()) {
+            ownership.putIfAbsent(nodeId, 0.0);
+        }
+        return ownership;
     }
 
     /**
-     * SHA-1 해시 함수
+     * 설정된 해시 함수로 키를 해시
      */
-    private long hash(String key) {
-        try {
-            MessageDigest md = MessageDigest.getInstance(HASH_ALGORITHM);
-            byte[] digest = md.digest(key.getBytes());
+    private long hash(CharSequence key) {
+        return hashFunction.hash(key);
+    }
 
-            // 바이트 배열을 long으로 변환 (첫 8바이트 사용)
-            long hash = 0;
-            for (int i = 0; i < Math.min(digest.length, 8); i++) {
-                hash = (hash << 8) | (digest[i] & 0xFF);
-            }
+    public ConcurrencyMode getConcurrencyMode() {
+        return concurrencyMode;
+    }
 
-            return Math.abs(hash); // 음수 방지
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("해시 알고리즘을 찾을 수 없습니다: " + HASH_ALGORITHM, e);
-        }
+    public TokenAllocation getTokenAllocation() {
+        return tokenAllocation;
+    }
+
+    /**
+     * 사용 중인 해시 함수 반환
+     */
+    public HashFunction getHashFunction() {
+        return hashFunction;
     }
 
     /**
      * 모든 노드 제거 (테스트용)
      */
+    @Override
     public void clear() {
+        long started = System.nanoTime();
         lock.writeLock().lock();
         try {
+            int removedCount = nodes.size();
             ring.clear();
             nodes.clear();
+            nodeTokens.clear();
+            contenders.clear();
+            if (stampedRing != null) {
+                stampedRing.clear();
+            }
+            loads.clear();
+            totalLoad.reset();
+            publish();
+            fireDelta(RingDelta.Type.CLEARED, null, null, null);
+            fireEvent(new RingEvent(RingDelta.Type.CLEARED, epoch, null, 0, 0, 0, 0, removedCount,
+                    System.nanoTime() - started, removedCount > 0 ? 1.0 : 0));
         } finally {
             lock.writeLock().unlock();
         }
@@ -187,6 +1164,7 @@ public class ConsistentHash {
     /**
      * 현재 노드 수 반환
      */
+    @Override
     public int getNodeCount() {
         lock.readLock().lock();
         try {
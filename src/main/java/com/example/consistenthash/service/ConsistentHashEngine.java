@@ -0,0 +1,165 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+
+import java.util.*;
+
+/**
+ * 키를 물리 노드에 배치하는 안정 해시 엔진
+ * 해시 링(ConsistentHash) 외의 알고리즘도 같은 노드 추가/제거/조회 API로 사용할 수 있도록 분리한 인터페이스.
+ */
+public interface ConsistentHashEngine {
+
+    /**
+     * 설정 파일 등에서 사용하는 엔진 이름
+     */
+    String name();
+
+    /**
+     * 노드 추가 (이미 존재하는 노드면 무시)
+     */
+    void addNode(Node node);
+
+    /**
+     * 노드 제거 (존재하지 않는 노드면 무시)
+     */
+    void removeNode(String nodeId);
+
+    /**
+     * 여러 노드를 한 번에 제거한 뒤 추가
+     * 기본 구현은 하나씩 적용하므로 조회자가 중간 상태를 볼 수 있으며, 원자적으로 적용하는 엔진은 재정의.
+     * 노드 추가/제거가 실패할 수 있는 엔진(Jump, AnchorHash 등)은 일부만 적용된 채 예외가 나지 않도록
+     * 재정의하여 변경 전에 전체를 검증해야 함.
+     */
+    default void replaceNodes(Collection<String> nodeIdsToRemove, Collection<Node> nodesToAdd) {
+        nodeIdsToRemove.forEach(this::removeNode);
+        nodesToAdd.forEach(this::addNode);
+    }
+
+    /**
+     * 여러 노드를 한 번에 추가
+     */
+    default void addNodes(Collection<Node> nodes) {
+        replaceNodes(List.of(), nodes);
+    }
+
+    /**
+     * 여러 노드를 한 번에 제거
+     */
+    default void removeNodes(Collection<String> nodeIds) {
+        replaceNodes(nodeIds, List.of());
+    }
+
+    /**
+     * 주어진 키의 담당 노드 (노드가 없으면 null)
+     */
+    Node getNode(String key);
+
+    /**
+     * 문자 시퀀스 키의 담당 노드
+     */
+    default Node getNode(CharSequence key) {
+        return getNode(key.toString());
+    }
+
+    /**
+     * 여러 키의 담당 노드를 한 번에 조회 (키 → 노드, 입력 순서 유지, 노드가 없으면 빈 맵)
+     */
+    default Map<String, Node> getNodes(Collection<String> keys) {
+        Map<String, Node> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            Node node = getNode(key);
+            if (node == null) {
+                return new LinkedHashMap<>();
+            }
+            result.put(key, node);
+        }
+        return result;
+    }
+
+    /**
+     * 여러 키를 담당 노드별로 묶어서 반환 (노드 → 키 목록, 노드가 없으면 빈 맵)
+     */
+    default Map<Node, List<String>> routeBatch(Collection<String> keys) {
+        Map<Node, List<String>> result = new LinkedHashMap<>();
+        getNodes(keys).forEach((key, node) -> result.computeIfAbsent(node, n -> new ArrayList<>()).add(key));
+        return result;
+    }
+
+    /**
+     * 키의 복제본을 저장할 서로 다른 물리 노드 count개
+     */
+    default List<Node> getReplicas(String key, int count) {
+        throw new UnsupportedOperationException(name() + " 엔진은 복제본 조회를 지원하지 않습니다");
+    }
+
+    /**
+     * 운영 중인 노드의 가중치 변경 (존재하지 않는 노드면 false)
+     */
+    default boolean updateWeight(String nodeId, int weight) {
+        throw new UnsupportedOperationException(name() + " 엔진은 가중치 변경을 지원하지 않습니다");
+    }
+
+    /**
+     * 멤버십 변경 번호 (변경마다 증가, 지원하지 않는 엔진은 -1)
+     */
+    default long getEpoch() {
+        return -1;
+    }
+
+    /**
+     * 멤버십 변경분 수신자 등록
+     */
+    default void addDeltaListener(RingDeltaListener listener) {
+        throw new UnsupportedOperationException(name() + " 엔진은 멤버십 변경분 구독을 지원하지 않습니다");
+    }
+
+    default void removeDeltaListener(RingDeltaListener listener) {
+    }
+
+    /**
+     * 멤버십 변경 이벤트 수신자 등록 (별도 스레드에서 비동기로 호출)
+     */
+    default void addEventListener(RingEventListener listener) {
+        throw new UnsupportedOperationException(name() + " 엔진은 변경 이벤트 구독을 지원하지 않습니다");
+    }
+
+    default void removeEventListener(RingEventListener listener) {
+    }
+
+    /**
+     * 노드를 추가하면 담당 노드가 바뀌는 해시 구간 목록 (상태는 변경하지 않음)
+     */
+    default List<MovedRange> previewAddNode(Node node) {
+        throw new UnsupportedOperationException(name() + " 엔진은 이동 구간 미리보기를 지원하지 않습니다");
+    }
+
+    /**
+     * 노드를 제거하면 담당 노드가 바뀌는 해시 구간 목록 (상태는 변경하지 않음)
+     */
+    default List<MovedRange> previewRemoveNode(String nodeId) {
+        throw new UnsupportedOperationException(name() + " 엔진은 이동 구간 미리보기를 지원하지 않습니다");
+    }
+
+    /**
+     * 클라이언트 측 라우팅용 링 스냅샷 (RingSnapshotFormat 바이너리)
+     */
+    default byte[] exportSnapshot() {
+        throw new UnsupportedOperationException(name() + " 엔진은 링 스냅샷 내보내기를 지원하지 않습니다");
+    }
+
+    /**
+     * 현재 상태 정보 (물리노드수, 가상노드수, 노드목록, 데이터분포)
+     */
+    Map<String, Object> getRingInfo();
+
+    /**
+     * 현재 노드 수
+     */
+    int getNodeCount();
+
+    /**
+     * 모든 노드 제거
+     */
+    void clear();
+}
@@ -0,0 +1,174 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+import com.example.consistenthash.service.hash.HashFunction;
+
+import java.util.*;
+
+/**
+ * Jump Consistent Hash 엔진 (Lamping & Veach)
+ * 노드를 0..n-1 번호의 버킷으로 두고 키를 O(ln n) 연산으로 버킷에 배치하며, 노드 배열 외의 메모리를 쓰지 않음.
+ * 버킷 번호가 곧 배치 기준이므로 노드는 끝에 추가하거나 마지막 노드만 제거할 수 있음.
+ */
+public class JumpConsistentHash implements ConsistentHashEngine {
+
+    public static final String NAME = "jump";
+
+    private final HashFunction hashFunction;
+    private volatile Node[] buckets; // 버킷 번호순 노드 (변경 시 새 배열로 교체)
+
+    public JumpConsistentHash(HashFunction hashFunction) {
+        this.hashFunction = hashFunction;
+        this.buckets = new Node[0];
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    /**
+     * 노드를 마지막 버킷으로 추가
+     */
+    @Override
+    public synchronized void addNode(Node node) {
+        Node[] current = buckets;
+        if (indexOf(current, node.getId()) >= 0) {
+            return; // 이미 존재하는 노드
+        }
+
+        Node[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = node;
+        buckets = next;
+    }
+
+    /**
+     * 마지막 버킷의 노드를 제거 (중간 노드 제거는 다른 버킷의 키까지 옮기므로 허용하지 않음)
+     */
+    @Override
+    public synchronized void removeNode(String nodeId) {
+        Node[] current = buckets;
+        int index = indexOf(current, nodeId);
+        if (index < 0) {
+            return; // 존재하지 않는 노드
+        }
+        if (index != current.length - 1) {
+            throw notLastNode(nodeId, current[current.length - 1]);
+        }
+
+        buckets = Arrays.copyOf(current, current.length - 1);
+    }
+
+    /**
+     * 여러 노드를 제거한 뒤 추가 (새 배열에 모두 적용한 뒤 한 번에 교체)
+     * 제거는 요청 순서대로 마지막 노드여야 하며, 하나라도 어긋나면 아무것도 바꾸지 않고 예외를 던짐.
+     */
+    @Override
+    public synchronized void replaceNodes(Collection<String> nodeIdsToRemove, Collection<Node> nodesToAdd) {
+        List<Node> next = new ArrayList<>(Arrays.asList(buckets));
+        for (String nodeId : nodeIdsToRemove) {
+            int index = indexOf(next, nodeId);
+            if (index < 0) {
+                continue; // 존재하지 않는 노드
+            }
+            if (index != next.size() - 1) {
+                throw notLastNode(nodeId, next.get(next.size() - 1));
+            }
+            next.remove(index);
+        }
+        for (Node node : nodesToAdd) {
+            if (indexOf(next, node.getId()) < 0) {
+                next.add(node);
+            }
+        }
+
+        buckets = next.toArray(new Node[0]);
+    }
+
+    private static IllegalStateException notLastNode(String nodeId, Node last) {
+        return new IllegalStateException(String.format(
+                "Jump 해시는 마지막 노드만 제거할 수 있습니다 (요청: %s, 마지막: %s)", nodeId, last.getId()));
+    }
+
+    @Override
+    public Node getNode(String key) {
+        return getNode((CharSequence) key);
+    }
+
+    @Override
+    public Node getNode(CharSequence key) {
+        Node[] current = buckets;
+        if (current.length == 0) {
+            return null;
+        }
+        return current[jump(hashFunction.hash(key), current.length)];
+    }
+
+    /**
+     * 64비트 키를 [0, bucketCount) 버킷으로 배치
+     */
+    static int jump(long key, int bucketCount) {
+        long bucket = -1;
+        long next = 0;
+        while (next < bucketCount) {
+            bucket = next;
+            key = key * 2862933555777941757L + 1;
+            next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
+
+    @Override
+    public Map<String, Object> getRingInfo() {
+        Node[] current = buckets;
+
+        Map<String, Object> info = new HashMap<>();
+        info.put("물리노드수", current.length);
+        info.put("가상노드수", 0); // 가상 노드를 사용하지 않음
+        List<String> nodeList = new ArrayList<>(current.length);
+        for (Node node : current) {
+            nodeList.add(node.getId());
+        }
+        info.put("노드목록", nodeList);
+
+        // 샘플 키 1000개로 분포 계산
+        Map<String, Integer> distribution = new HashMap<>();
+        if (current.length > 0) {
+            for (int i = 0; i < 1000; i++) {
+                Node node = current[jump(hashFunction.hash("key_" + i), current.length)];
+                distribution.merge(node.getId(), 1, Integer::sum);
+            }
+        }
+        info.put("데이터분포", distribution);
+
+        return info;
+    }
+
+    @Override
+    public int getNodeCount() {
+        return buckets.length;
+    }
+
+    @Override
+    public synchronized void clear() {
+        buckets = new Node[0];
+    }
+
+    private static int indexOf(Node[] nodes, String nodeId) {
+        for (int i = 0; i < nodes.length; i++) {
+            if (nodes[i].getId().equals(nodeId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(List<Node> nodes, String nodeId) {
+        for (int i = 0; i < nodes.size(); i++) {
+            if (nodes.get(i).getId().equals(nodeId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
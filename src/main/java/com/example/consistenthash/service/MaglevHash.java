@@ -0,0 +1,214 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+import com.example.consistenthash.service.hash.HashFunction;
+
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Maglev 해시 엔진 (Eisenbud et al., NSDI 2016)
+ * 노드별 순열로 소수 크기의 룩업 테이블을 채우고, 키는 테이블 인덱스 한 번으로 O(1)에 배치.
+ * 멤버십 변경 시 테이블은 백그라운드 스레드에서 다시 만들어지며, 교체 전까지는 이전 테이블이 조회를 처리.
+ */
+public class MaglevHash implements ConsistentHashEngine {
+
+    public static final String NAME = "maglev";
+    public static final int DEFAULT_TABLE_SIZE = 65537; // 소수 (노드 수의 100배 이상 권장)
+
+    private final HashFunction hashFunction;
+    private final int tableSize;
+    private final Map<String, Node> nodes; // 멤버십 (this로 동기화)
+    private final ExecutorService rebuildExecutor; // 테이블 재생성 전용 단일 스레드
+    private final AtomicBoolean rebuildScheduled;
+    private volatile LookupTable table;
+
+    public MaglevHash(HashFunction hashFunction) {
+        this(hashFunction, DEFAULT_TABLE_SIZE);
+    }
+
+    public MaglevHash(HashFunction hashFunction, int tableSize) {
+        if (tableSize < 2 || !BigInteger.valueOf(tableSize).isProbablePrime(32)) {
+            throw new IllegalArgumentException("Maglev 테이블 크기는 소수여야 합니다: " + tableSize);
+        }
+
+        this.hashFunction = hashFunction;
+        this.tableSize = tableSize;
+        this.nodes = new HashMap<>();
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "maglev-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.rebuildScheduled = new AtomicBoolean();
+        this.table = LookupTable.EMPTY;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void addNode(Node node) {
+        synchronized (this) {
+            if (nodes.putIfAbsent(node.getId(), node) != null) {
+                return; // 이미 존재하는 노드
+            }
+        }
+        scheduleRebuild();
+    }
+
+    @Override
+    public void removeNode(String nodeId) {
+        synchronized (this) {
+            if (nodes.remove(nodeId) == null) {
+                return; // 존재하지 않는 노드
+            }
+        }
+        scheduleRebuild();
+    }
+
+    @Override
+    public Node getNode(String key) {
+        return getNode((CharSequence) key);
+    }
+
+    @Override
+    public Node getNode(CharSequence key) {
+        LookupTable current = table;
+        if (current.nodes.length == 0) {
+            return null;
+        }
+        return current.nodes[current.entries[(int) Long.remainderUnsigned(hashFunction.hash(key), tableSize)]];
+    }
+
+    /**
+     * 예약된 테이블 재생성이 끝날 때까지 대기 (테스트 및 관리 작업용)
+     */
+    public boolean awaitRebuild(long timeout, TimeUnit unit) throws InterruptedException {
+        Future<?> marker = rebuildExecutor.submit(() -> { });
+        try {
+            marker.get(timeout, unit);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 테이블 재생성 예약 (이미 대기 중인 재생성이 있으면 합쳐짐)
+     */
+    private void scheduleRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuildExecutor.execute(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+        // 멤버십을 읽기 전에 플래그를 내려, 이후의 변경은 새 재생성을 예약하도록 함
+        rebuildScheduled.set(false);
+
+        Node[] members;
+        synchronized (this) {
+            members = nodes.values().toArray(new Node[0]);
+        }
+        // 서버마다 같은 테이블을 만들도록 ID 순으로 정렬
+        Arrays.sort(members, Comparator.comparing(Node::getId));
+
+        table = members.length == 0 ? LookupTable.EMPTY : new LookupTable(members, populate(members));
+    }
+
+    /**
+     * Maglev 테이블 채우기
+     * 각 노드는 (offset + j × skip) mod M 순열을 따라 아직 비어 있는 칸을 하나씩 번갈아 차지함.
+     */
+    private int[] populate(Node[] members) {
+        int count = members.length;
+        long[] position = new long[count];
+        long[] skip = new long[count];
+        for (int i = 0; i < count; i++) {
+            String id = members[i].getId();
+            position[i] = Long.remainderUnsigned(hashFunction.hash(id), tableSize);
+            skip[i] = Long.remainderUnsigned(hashFunction.hash(id + "#skip"), tableSize - 1) + 1;
+        }
+
+        int[] entries = new int[tableSize];
+        Arrays.fill(entries, -1);
+
+        int filled = 0;
+        while (true) {
+            for (int i = 0; i < count; i++) {
+                int slot = (int) position[i];
+                while (entries[slot] >= 0) {
+                    slot = (int) ((slot + skip[i]) % tableSize);
+                }
+                entries[slot] = i;
+                position[i] = (slot + skip[i]) % tableSize;
+
+                if (++filled == tableSize) {
+                    return entries;
+                }
+            }
+        }
+    }
+
+    @Override
+    public Map<String, Object> getRingInfo() {
+        LookupTable current = table;
+
+        Map<String, Object> info = new HashMap<>();
+        synchronized (this) {
+            info.put("물리노드수", nodes.size());
+            info.put("노드목록", new ArrayList<>(nodes.keySet()));
+        }
+        info.put("가상노드수", current.nodes.length == 0 ? 0 : tableSize); // 룩업 테이블 칸 수
+
+        // 샘플 키 1000개로 분포 계산
+        Map<String, Integer> distribution = new HashMap<>();
+        if (current.nodes.length > 0) {
+            for (int i = 0; i < 1000; i++) {
+                Node node = current.nodes[current.entries[(int) Long.remainderUnsigned(hashFunction.hash("key_" + i), tableSize)]];
+                distribution.merge(node.getId(), 1, Integer::sum);
+            }
+        }
+        info.put("데이터분포", distribution);
+
+        return info;
+    }
+
+    @Override
+    public synchronized int getNodeCount() {
+        return nodes.size();
+    }
+
+    @Override
+    public void clear() {
+        synchronized (this) {
+            nodes.clear();
+        }
+        table = LookupTable.EMPTY;
+        scheduleRebuild(); // 진행 중인 재생성이 이전 멤버십으로 덮어쓰지 않도록 빈 테이블로 다시 맞춤
+    }
+
+    public int getTableSize() {
+        return tableSize;
+    }
+
+    /**
+     * 불변 룩업 테이블 (entries[i]는 nodes 내 인덱스)
+     */
+    private static final class LookupTable {
+        private static final LookupTable EMPTY = new LookupTable(new Node[0], new int[0]);
+
+        private final Node[] nodes;
+        private final int[] entries;
+
+        private LookupTable(Node[] nodes, int[] entries) {
+            this.nodes = nodes;
+            this.entries = entries;
+        }
+    }
+}
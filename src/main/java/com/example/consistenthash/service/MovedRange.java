@@ -0,0 +1,62 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+
+/**
+ * 멤버십 변경으로 담당 노드가 바뀌는 해시 구간 (startToken, endToken]
+ * 해시 값이 이 구간에 속하는 키만 fromNode에서 toNode로 옮기면 됨.
+ * startToken이 endToken보다 크면 링의 끝을 넘어 처음으로 이어지는 구간이며, 둘이 같으면 링 전체.
+ */
+public final class MovedRange {
+
+    private final long startToken; // 구간 시작 (제외)
+    private final long endToken; // 구간 끝 (포함)
+    private final Node fromNode;
+    private final Node toNode;
+    private final double share; // 키 공간 대비 구간 길이 (0~1)
+
+    MovedRange(long startToken, long endToken, Node fromNode, Node toNode, double share) {
+        this.startToken = startToken;
+        this.endToken = endToken;
+        this.fromNode = fromNode;
+        this.toNode = toNode;
+        this.share = share;
+    }
+
+    /**
+     * 해시 값이 이 구간에 속하는지 (링을 넘어가는 구간 포함)
+     */
+    public boolean contains(long hash) {
+        if (startToken == endToken) {
+            return true;
+        }
+        long offset = hash - startToken;
+        return offset != 0 && Long.compareUnsigned(offset, endToken - startToken) <= 0;
+    }
+
+    public long getStartToken() {
+        return startToken;
+    }
+
+    public long getEndToken() {
+        return endToken;
+    }
+
+    public Node getFromNode() {
+        return fromNode;
+    }
+
+    public Node getToNode() {
+        return toNode;
+    }
+
+    public double getShare() {
+        return share;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MovedRange{(%d, %d], %s → %s, %.4f%%}",
+                startToken, endToken, fromNode.getId(), toNode.getId(), share * 100);
+    }
+}
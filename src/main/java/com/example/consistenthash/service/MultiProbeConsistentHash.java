@@ -0,0 +1,178 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+import com.example.consistenthash.service.hash.HashFunction;
+
+import java.util.*;
+
+/**
+ * 다중 탐침 안정 해시 엔진 (Multi-probe Consistent Hashing, Appleton & O'Reilly)
+ * 노드마다 토큰을 하나만 두고, 조회 시 키를 k번 해시하여 각 탐침에서 시계방향으로 가장 가까운 토큰을 고름.
+ * 가상 노드 없이 k=21에서 최대/평균 부하 약 1.05를 얻으므로 링 메모리가 노드 수만큼으로 줄고 노드 추가가 즉시 끝남.
+ * 탐침과 거리는 해시 함수의 키 공간 안에서 계산 (기존 SHA-1 호환 해시면 [0, 2^63), 그 외 64비트 전체).
+ */
+public class MultiProbeConsistentHash implements ConsistentHashEngine {
+
+    public static final String NAME = "multi-probe";
+    public static final int DEFAULT_PROBES = 21;
+
+    private static final long MIX1 = 0xff51afd7ed558ccdL;
+    private static final long MIX2 = 0xc4ceb9fe1a85ec53L;
+
+    private final HashFunction hashFunction;
+    private final int probes;
+    private final long mask; // 키 공간 마스크 (탐침 위치와 거리를 키 공간 크기로 모듈러 연산)
+    private final TreeMap<Long, Node> ring; // 노드당 토큰 하나 (this로 동기화)
+    private final Map<String, Long> tokens; // 노드 ID → 토큰 (this로 동기화)
+    private volatile RingSnapshot snapshot;
+
+    public MultiProbeConsistentHash(HashFunction hashFunction) {
+        this(hashFunction, DEFAULT_PROBES);
+    }
+
+    public MultiProbeConsistentHash(HashFunction hashFunction, int probes) {
+        if (probes < 1) {
+            throw new IllegalArgumentException("탐침 수는 1 이상이어야 합니다: " + probes);
+        }
+        this.hashFunction = hashFunction;
+        this.probes = probes;
+        this.mask = hashFunction.nonNegative() ? Long.MAX_VALUE : -1L;
+        this.ring = new TreeMap<>();
+        this.tokens = new HashMap<>();
+        this.snapshot = RingSnapshot.EMPTY;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public synchronized void addNode(Node node) {
+        if (tokens.containsKey(node.getId())) {
+            return; // 이미 존재하는 노드
+        }
+
+        // 토큰 충돌 시 다음 값으로 이동 (충돌 확률은 무시할 수준)
+        long token = hashFunction.hash(node.getId());
+        while (ring.containsKey(token)) {
+            token = (token + 1) & mask;
+        }
+
+        ring.put(token, node);
+        tokens.put(node.getId(), token);
+        snapshot = RingSnapshot.of(ring, hashFunction.nonNegative(), 0);
+    }
+
+    @Override
+    public synchronized void removeNode(String nodeId) {
+        Long token = tokens.remove(nodeId);
+        if (token == null) {
+            return; // 존재하지 않는 노드
+        }
+
+        ring.remove(token);
+        snapshot = RingSnapshot.of(ring, hashFunction.nonNegative(), 0);
+    }
+
+    @Override
+    public Node getNode(String key) {
+        return getNode((CharSequence) key);
+    }
+
+    @Override
+    public Node getNode(CharSequence key) {
+        RingSnapshot current = snapshot;
+        if (current.isEmpty()) {
+            return null;
+        }
+        return current.ownerAt(closestTokenIndex(current, hashFunction.hash(key)));
+    }
+
+    /**
+     * 가장 가까운 토큰에서 시계방향으로 서로 다른 노드 count개 반환
+     */
+    @Override
+    public List<Node> getReplicas(String key, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("복제본 수는 1 이상이어야 합니다: " + count);
+        }
+
+        RingSnapshot current = snapshot;
+        if (current.isEmpty()) {
+            return List.of();
+        }
+        int tokenIndex = closestTokenIndex(current, hashFunction.hash(key));
+        return current.getReplicas(current.tokenAt(tokenIndex), count);
+    }
+
+    /**
+     * k개의 탐침 중 시계방향 거리가 가장 짧은 토큰의 인덱스
+     * 탐침은 이중 해싱(h1 + i × h2)으로 만들어 키를 한 번만 해시함.
+     */
+    private int closestTokenIndex(RingSnapshot current, long keyHash) {
+        long step = (mix(keyHash) | 1) & mask; // 홀수 간격이면 탐침이 겹치지 않음 (키 공간 크기가 2의 거듭제곱)
+
+        int best = 0;
+        long bestDistance = -1; // 부호 없는 최댓값
+        long probe = keyHash;
+        for (int i = 0; i < probes; i++) {
+            int index = current.ceilingIndex(probe);
+            long distance = (current.tokenAt(index) - probe) & mask; // 링을 한 바퀴 넘는 경우도 키 공간 모듈러 거리
+            if (Long.compareUnsigned(distance, bestDistance) < 0) {
+                bestDistance = distance;
+                best = index;
+            }
+            probe = (probe + step) & mask;
+        }
+        return best;
+    }
+
+    private static long mix(long x) {
+        x = (x ^ (x >>> 33)) * MIX1;
+        x = (x ^ (x >>> 33)) * MIX2;
+        return x ^ (x >>> 33);
+    }
+
+    @Override
+    public Map<String, Object> getRingInfo() {
+        RingSnapshot current = snapshot;
+
+        Map<String, Object> info = new HashMap<>();
+        info.put("물리노드수", current.nodeCount());
+        info.put("가상노드수", current.size()); // 노드당 토큰 하나
+        info.put("노드목록", nodeIds());
+
+        // 샘플 키 1000개로 분포 계산
+        Map<String, Integer> distribution = new HashMap<>();
+        if (!current.isEmpty()) {
+            for (int i = 0; i < 1000; i++) {
+                Node node = current.ownerAt(closestTokenIndex(current, hashFunction.hash("key_" + i)));
+                distribution.merge(node.getId(), 1, Integer::sum);
+            }
+        }
+        info.put("데이터분포", distribution);
+
+        return info;
+    }
+
+    private synchronized List<String> nodeIds() {
+        return new ArrayList<>(tokens.keySet());
+    }
+
+    @Override
+    public int getNodeCount() {
+        return snapshot.nodeCount();
+    }
+
+    @Override
+    public synchronized void clear() {
+        ring.clear();
+        tokens.clear();
+        snapshot = RingSnapshot.EMPTY;
+    }
+
+    public int getProbes() {
+        return probes;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 제한 모드의 노드 할당 (ConsistentHash.acquire로 받고 release로 반납)
+ * 할당 당시 노드 멤버십의 부하 카운터에 묶여 있으므로, 노드가 제거된 뒤 같은 ID로 다시 추가되어도
+ * 늦게 반납된 할당이 새 노드의 부하를 줄이지 않음. 반납은 한 번만 반영됨.
+ */
+public final class NodeLease {
+
+    private final ConsistentHash ring;
+    private final Node node;
+    private final AtomicLong load; // 할당 당시의 부하 카운터 (조회 직후 제거된 노드면 null)
+    private final AtomicBoolean released;
+
+    NodeLease(ConsistentHash ring, Node node, AtomicLong load) {
+        this.ring = ring;
+        this.node = node;
+        this.load = load;
+        this.released = new AtomicBoolean();
+    }
+
+    public Node getNode() {
+        return node;
+    }
+
+    AtomicLong getLoad() {
+        return load;
+    }
+
+    /**
+     * 할당 반납 (두 번째 호출부터는 무시)
+     */
+    public void release() {
+        if (released.compareAndSet(false, true)) {
+            ring.releaseLease(this);
+        }
+    }
+
+    public boolean isReleased() {
+        return released.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("NodeLease{node=%s, released=%s}", node.getId(), released.get());
+    }
+}
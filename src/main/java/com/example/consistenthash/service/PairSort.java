@@ -0,0 +1,76 @@
+package com.example.consistenthash.service;
+
+/**
+ * long 키 배열과 int 값 배열을 함께 정렬하는 유틸리티
+ * 박싱 없이 (해시, 원래 위치) 쌍을 해시 순으로 정렬할 때 사용.
+ */
+final class PairSort {
+
+    private static final int INSERTION_SORT_THRESHOLD = 24;
+
+    private PairSort() {}
+
+    /**
+     * keys 오름차순으로 keys와 values를 같은 순서로 재배열
+     */
+    static void sort(long[] keys, int[] values) {
+        sort(keys, values, 0, keys.length - 1);
+    }
+
+    private static void sort(long[] keys, int[] values, int low, int high) {
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            // 중앙값 피벗 (세 값 중간값)
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < keys[low]) swap(keys, values, mid, low);
+            if (keys[high] < keys[low]) swap(keys, values, high, low);
+            if (keys[high] < keys[mid]) swap(keys, values, high, mid);
+            long pivot = keys[mid];
+
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (keys[i] < pivot) i++;
+                while (keys[j] > pivot) j--;
+                if (i <= j) {
+                    swap(keys, values, i++, j--);
+                }
+            }
+
+            // 작은 쪽은 재귀, 큰 쪽은 반복 처리하여 스택 깊이를 O(log n)으로 제한
+            if (j - low < high - i) {
+                sort(keys, values, low, j);
+                low = i;
+            } else {
+                sort(keys, values, i, high);
+                high = j;
+            }
+        }
+
+        insertionSort(keys, values, low, high);
+    }
+
+    private static void insertionSort(long[] keys, int[] values, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            long key = keys[i];
+            int value = values[i];
+            int j = i - 1;
+            while (j >= low && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            values[j + 1] = value;
+        }
+    }
+
+    private static void swap(long[] keys, int[] values, int a, int b) {
+        long key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+
+        int value = values[a];
+        values[a] = values[b];
+        values[b] = value;
+    }
+}
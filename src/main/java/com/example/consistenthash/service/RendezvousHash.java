@@ -0,0 +1,247 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+import com.example.consistenthash.service.hash.HashFunction;
+
+import java.util.*;
+
+/**
+ * 랑데부 해시(Highest Random Weight) 엔진
+ * 키마다 모든 노드의 점수를 계산하여 가장 높은 노드를 선택하므로 가상 노드가 필요 없고, 노드별 가중치를 지원.
+ * 5~50개 정도의 소규모 클러스터용이며 조회 비용은 O(노드 수).
+ */
+public class RendezvousHash implements ConsistentHashEngine {
+
+    public static final String NAME = "rendezvous";
+
+    private static final long MIX1 = 0xff51afd7ed558ccdL;
+    private static final long MIX2 = 0xc4ceb9fe1a85ec53L;
+    private static final double UNIT = 0x1.0p-53; // 2^-53
+
+    private static final ThreadLocal<long[]> SCORES = ThreadLocal.withInitial(() -> new long[64]);
+
+    private final HashFunction hashFunction;
+    private final Map<String, Double> weights; // 노드 ID → 가중치 (this로 동기화)
+    private final Map<String, Node> nodes; // 추가 순서 유지 (this로 동기화)
+    private volatile Members members;
+
+    public RendezvousHash(HashFunction hashFunction) {
+        this.hashFunction = hashFunction;
+        this.weights = new HashMap<>();
+        this.nodes = new LinkedHashMap<>();
+        this.members = Members.EMPTY;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    /**
+     * 노드의 가중치(Node.getWeight)로 추가
+     */
+    @Override
+    public void addNode(Node node) {
+        addNode(node, node.getWeight());
+    }
+
+    /**
+     * 가중치를 지정하여 노드 추가 (키 점유 비율이 가중치에 비례)
+     */
+    public synchronized void addNode(Node node, double weight) {
+        if (!(weight > 0)) {
+            throw new IllegalArgumentException("가중치는 0보다 커야 합니다: " + weight);
+        }
+        if (nodes.putIfAbsent(node.getId(), node) != null) {
+            return; // 이미 존재하는 노드
+        }
+        weights.put(node.getId(), weight);
+        members = buildMembers();
+    }
+
+    @Override
+    public synchronized boolean updateWeight(String nodeId, int weight) {
+        Node current = nodes.get(nodeId);
+        if (current == null) {
+            return false;
+        }
+
+        nodes.put(nodeId, current.withWeight(weight)); // 추가 순서 유지
+        weights.put(nodeId, (double) weight);
+        members = buildMembers();
+        return true;
+    }
+
+    @Override
+    public synchronized void removeNode(String nodeId) {
+        if (nodes.remove(nodeId) == null) {
+            return; // 존재하지 않는 노드
+        }
+        weights.remove(nodeId);
+        members = buildMembers();
+    }
+
+    @Override
+    public Node getNode(String key) {
+        return getNode((CharSequence) key);
+    }
+
+    @Override
+    public Node getNode(CharSequence key) {
+        Members current = members;
+        if (current.nodes.length == 0) {
+            return null;
+        }
+        return current.nodes[current.select(hashFunction.hash(key))];
+    }
+
+    private Members buildMembers() {
+        int count = nodes.size();
+        Node[] memberNodes = nodes.values().toArray(new Node[0]);
+        long[] seeds = new long[count];
+        double[] memberWeights = new double[count];
+
+        boolean uniform = true;
+        for (int i = 0; i < count; i++) {
+            seeds[i] = hashFunction.hash(memberNodes[i].getId());
+            memberWeights[i] = weights.get(memberNodes[i].getId());
+            uniform &= memberWeights[i] == memberWeights[0];
+        }
+
+        return new Members(memberNodes, seeds, memberWeights, uniform);
+    }
+
+    /**
+     * 가중치가 모두 같을 때의 선택
+     * 점수 계산 루프는 분기와 메서드 호출 없이 long 배열만 다루므로 JIT의 자동 벡터화 대상이 되고,
+     * 최댓값 탐색은 별도 루프로 분리.
+     */
+    static int selectUniform(long keyHash, long[] seeds, int count) {
+        long[] scores = scratch(count);
+
+        for (int i = 0; i < count; i++) {
+            long x = keyHash ^ seeds[i];
+            x = (x ^ (x >>> 33)) * MIX1;
+            x = (x ^ (x >>> 33)) * MIX2;
+            scores[i] = (x ^ (x >>> 33)) >>> 1; // 부호 없는 비교를 피하려고 63비트로 축소
+        }
+
+        int best = 0;
+        for (int i = 1; i < count; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 가중치가 다를 때의 선택 (점수 = w / -ln(u), u는 (0, 1) 균등 분포)
+     * 각 노드가 선택될 확률이 가중치에 비례하며, 가중치 변경 시 해당 노드와 관련된 키만 이동.
+     */
+    static int selectWeighted(long keyHash, long[] seeds, double[] weights, int count) {
+        return selectWeighted(keyHash, seeds, weights, 0, count);
+    }
+
+    /**
+     * seeds와 weights의 [from, from + count) 구간에서 선택 (반환 값은 from 기준 상대 인덱스)
+     */
+    static int selectWeighted(long keyHash, long[] seeds, double[] weights, int from, int count) {
+        long[] scores = scratch(count);
+
+        for (int i = 0; i < count; i++) {
+            long x = keyHash ^ seeds[from + i];
+            x = (x ^ (x >>> 33)) * MIX1;
+            x = (x ^ (x >>> 33)) * MIX2;
+            scores[i] = x ^ (x >>> 33);
+        }
+
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            double weight = weights[from + i];
+            if (!(weight > 0)) {
+                continue; // 비어 있는 하위 트리 등 가중치 0은 선택하지 않음
+            }
+            double unit = ((scores[i] >>> 11) + 0.5) * UNIT;
+            double score = weight / -Math.log(unit);
+            if (score > bestScore) {
+                bestScore = score;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private static long[] scratch(int count) {
+        long[] scores = SCORES.get();
+        if (scores.length < count) {
+            scores = new long[Math.max(count, scores.length * 2)];
+            SCORES.set(scores);
+        }
+        return scores;
+    }
+
+    @Override
+    public Map<String, Object> getRingInfo() {
+        Members current = members;
+
+        Map<String, Object> info = new HashMap<>();
+        info.put("물리노드수", current.nodes.length);
+        info.put("가상노드수", 0); // 가상 노드를 사용하지 않음
+        List<String> nodeList = new ArrayList<>(current.nodes.length);
+        for (Node node : current.nodes) {
+            nodeList.add(node.getId());
+        }
+        info.put("노드목록", nodeList);
+
+        // 샘플 키 1000개로 분포 계산
+        Map<String, Integer> distribution = new HashMap<>();
+        if (current.nodes.length > 0) {
+            for (int i = 0; i < 1000; i++) {
+                Node node = current.nodes[current.select(hashFunction.hash("key_" + i))];
+                distribution.merge(node.getId(), 1, Integer::sum);
+            }
+        }
+        info.put("데이터분포", distribution);
+
+        return info;
+    }
+
+    @Override
+    public int getNodeCount() {
+        return members.nodes.length;
+    }
+
+    @Override
+    public synchronized void clear() {
+        nodes.clear();
+        weights.clear();
+        members = Members.EMPTY;
+    }
+
+    /**
+     * 불변 멤버 목록 (nodes[i]의 시드와 가중치가 같은 인덱스에 위치)
+     */
+    private static final class Members {
+        private static final Members EMPTY = new Members(new Node[0], new long[0], new double[0], true);
+
+        private final Node[] nodes;
+        private final long[] seeds;
+        private final double[] weights;
+        private final boolean uniform;
+
+        private Members(Node[] nodes, long[] seeds, double[] weights, boolean uniform) {
+            this.nodes = nodes;
+            this.seeds = seeds;
+            this.weights = weights;
+            this.uniform = uniform;
+        }
+
+        private int select(long keyHash) {
+            return uniform
+                    ? selectUniform(keyHash, seeds, seeds.length)
+                    : selectWeighted(keyHash, seeds, weights, seeds.length);
+        }
+    }
+}
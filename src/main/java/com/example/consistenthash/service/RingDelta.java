@@ -0,0 +1,82 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+
+import java.util.List;
+
+/**
+ * 링 멤버십 변경분 (변경 번호 epoch의 스냅샷은 epoch - 1 스냅샷에 이 변경을 적용한 것과 같음)
+ * 복제본을 유지하는 클라이언트는 로컬 번호 + 1인 변경분만 적용하고, 번호가 건너뛰면 전체 스냅샷으로 다시 맞춤.
+ * 여러 가상 노드의 토큰이 겹치면 ID가 작은 노드가 소유하므로, 복제 링도 같은 규칙으로 적용해야 함.
+ */
+public final class RingDelta {
+
+    public enum Type {
+        NODE_ADDED, // node의 addedTokens 추가
+        NODE_REMOVED, // node의 removedTokens 제거
+        WEIGHT_CHANGED, // node(새 가중치)로 교체 후 addedTokens 추가, removedTokens 제거
+        CLEARED, // 모든 토큰 제거 (node는 null)
+        BATCH // changes를 순서대로 적용 (일괄 변경, node는 null)
+    }
+
+    private static final long[] NO_TOKENS = new long[0];
+
+    private final Type type;
+    private final long epoch;
+    private final Node node;
+    private final long[] addedTokens;
+    private final long[] removedTokens;
+    private final List<RingDelta> changes; // 일괄 변경의 노드별 변경분 (같은 변경 번호)
+
+    RingDelta(Type type, long epoch, Node node, long[] addedTokens, long[] removedTokens) {
+        this.type = type;
+        this.epoch = epoch;
+        this.node = node;
+        this.addedTokens = addedTokens != null ? addedTokens : NO_TOKENS;
+        this.removedTokens = removedTokens != null ? removedTokens : NO_TOKENS;
+        this.changes = List.of();
+    }
+
+    RingDelta(long epoch, List<RingDelta> changes) {
+        this.type = Type.BATCH;
+        this.epoch = epoch;
+        this.node = null;
+        this.addedTokens = NO_TOKENS;
+        this.removedTokens = NO_TOKENS;
+        this.changes = List.copyOf(changes);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public Node getNode() {
+        return node;
+    }
+
+    public long[] getAddedTokens() {
+        return addedTokens.clone();
+    }
+
+    public long[] getRemovedTokens() {
+        return removedTokens.clone();
+    }
+
+    /**
+     * 일괄 변경(BATCH)을 이루는 노드별 변경분 (그 외 유형은 빈 목록)
+     */
+    public List<RingDelta> getChanges() {
+        return changes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RingDelta{type=%s, epoch=%d, node=%s, added=%d, removed=%d, changes=%d}",
+                type, epoch, node != null ? node.getId() : null, addedTokens.length, removedTokens.length,
+                changes.size());
+    }
+}
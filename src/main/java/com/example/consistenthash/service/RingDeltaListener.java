@@ -0,0 +1,11 @@
+package com.example.consistenthash.service;
+
+/**
+ * 링 멤버십 변경분 수신자
+ * 변경과 같은 쓰기 락 안에서 변경 순서대로 호출되므로, 구현은 큐에 넣는 정도로 짧게 끝나야 함.
+ */
+@FunctionalInterface
+public interface RingDeltaListener {
+
+    void onDelta(RingDelta delta);
+}
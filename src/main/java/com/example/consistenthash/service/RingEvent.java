@@ -0,0 +1,85 @@
+package com.example.consistenthash.service;
+
+/**
+ * 링 멤버십 변경 이벤트 (로그, 메트릭용 요약)
+ * 토큰 목록까지 필요한 복제본 동기화에는 RingDelta를 사용.
+ */
+public final class RingEvent {
+
+    private final RingDelta.Type type;
+    private final long epoch;
+    private final String nodeId; // 일괄 변경, 전체 제거면 null
+    private final int previousWeight; // 가중치 변경 전 값 (그 외 유형은 weight와 같음)
+    private final int weight;
+    private final int virtualNodeCount; // 변경된 노드의 가상 노드 수 (일괄 변경, 전체 제거면 변경 후 링의 토큰 수)
+    private final int addedNodeCount;
+    private final int removedNodeCount;
+    private final long durationNanos; // 변경 요청부터 적용까지 걸린 시간 (락 대기 포함)
+    private final double movedShare; // 담당 노드가 바뀐 키 공간 비율 (0~1)
+
+    RingEvent(RingDelta.Type type, long epoch, String nodeId, int previousWeight, int weight,
+              int virtualNodeCount, int addedNodeCount, int removedNodeCount,
+              long durationNanos, double movedShare) {
+        this.type = type;
+        this.epoch = epoch;
+        this.nodeId = nodeId;
+        this.previousWeight = previousWeight;
+        this.weight = weight;
+        this.virtualNodeCount = virtualNodeCount;
+        this.addedNodeCount = addedNodeCount;
+        this.removedNodeCount = removedNodeCount;
+        this.durationNanos = durationNanos;
+        this.movedShare = movedShare;
+    }
+
+    public RingDelta.Type getType() {
+        return type;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public int getPreviousWeight() {
+        return previousWeight;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public int getVirtualNodeCount() {
+        return virtualNodeCount;
+    }
+
+    public int getAddedNodeCount() {
+        return addedNodeCount;
+    }
+
+    public int getRemovedNodeCount() {
+        return removedNodeCount;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * 담당 노드가 바뀐 키 공간 비율 (일괄 변경은 제거분과 추가분의 합이므로 상한값)
+     */
+    public double getMovedShare() {
+        return movedShare;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RingEvent{type=%s, epoch=%d, node=%s, weight=%d, virtualNodes=%d, added=%d, "
+                        + "removed=%d, duration=%dus, movedShare=%.4f}",
+                type, epoch, nodeId, weight, virtualNodeCount, addedNodeCount, removedNodeCount,
+                durationNanos / 1000, movedShare);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.consistenthash.service;
+
+/**
+ * 링 멤버십 변경 이벤트 수신자
+ * 변경을 적용한 스레드가 아닌 이벤트 전달 스레드에서 변경 번호 순서대로 호출되므로,
+ * 느린 구현(로그 출력, 메트릭 전송 등)도 멤버십 변경을 지연시키지 않음.
+ * 전달 큐가 가득 차면 이벤트를 버리므로, 빠짐없이 받아야 하면 RingDeltaListener를 사용.
+ */
+@FunctionalInterface
+public interface RingEventListener {
+
+    void onEvent(RingEvent event);
+}
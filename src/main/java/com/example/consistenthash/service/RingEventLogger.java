@@ -0,0 +1,32 @@
+package com.example.consistenthash.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 멤버십 변경 이벤트를 로그로 기록하는 수신자 (INFO)
+ */
+public class RingEventLogger implements RingEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RingEventLogger.class);
+
+    @Override
+    public void onEvent(RingEvent event) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        String summary = switch (event.getType()) {
+            case NODE_ADDED -> String.format("노드 추가됨: %s (가상 노드 %d개)",
+                    event.getNodeId(), event.getVirtualNodeCount());
+            case NODE_REMOVED -> String.format("노드 제거됨: %s", event.getNodeId());
+            case WEIGHT_CHANGED -> String.format("노드 가중치 변경됨: %s (%d → %d, 가상 노드 %d개)",
+                    event.getNodeId(), event.getPreviousWeight(), event.getWeight(), event.getVirtualNodeCount());
+            case BATCH -> String.format("노드 일괄 변경됨: 제거 %d개, 추가 %d개 (가상 노드 %d개)",
+                    event.getRemovedNodeCount(), event.getAddedNodeCount(), event.getVirtualNodeCount());
+            case CLEARED -> "모든 노드 제거됨";
+        };
+        log.info("{} [변경 번호 {}, {}ms, 이동 {}%]", summary, event.getEpoch(),
+                String.format("%.3f", event.getDurationNanos() / 1_000_000.0),
+                String.format("%.2f", event.getMovedShare() * 100));
+    }
+}
@@ -0,0 +1,409 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 해시 링의 불변 스냅샷
+ * 정렬된 토큰 배열(long[])과 같은 위치의 노드 인덱스 배열(int[])로 링을 표현하여,
+ * 락과 박싱 없이 이진 탐색만으로 담당 노드를 찾을 수 있음.
+ */
+public final class RingSnapshot {
+
+    static final RingSnapshot EMPTY = new RingSnapshot(new long[0], new int[0], new Node[0], new double[0], 0);
+
+    private static final int MERGE_THRESHOLD = 32; // 이보다 적은 키는 정렬 없이 개별 이진 탐색
+
+    private final long[] tokens; // 오름차순 정렬된 토큰
+    private final int[] nodeIndexes; // tokens[i]를 소유한 노드의 nodes 내 인덱스
+    private final Node[] nodes; // 물리 노드 테이블
+    private final double[] shares; // 노드별 키 공간 점유율 (소유 토큰 구간 길이의 합 / 키 공간 크기)
+    private final long epoch; // 멤버십 변경 번호 (변경마다 1씩 증가)
+    private volatile PreferenceTable preferences; // 토큰별 복제 노드 목록 (첫 복제본 조회 시 생성)
+
+    RingSnapshot(long[] tokens, int[] nodeIndexes, Node[] nodes, double[] shares, long epoch) {
+        this.tokens = tokens;
+        this.nodeIndexes = nodeIndexes;
+        this.nodes = nodes;
+        this.shares = shares;
+        this.epoch = epoch;
+    }
+
+    /**
+     * 정렬된 링(TreeMap)으로부터 스냅샷 생성 (키 공간은 64비트 전체, 변경 번호 0)
+     */
+    static RingSnapshot of(SortedMap<Long, Node> ring) {
+        return of(ring, false, 0);
+    }
+
+    /**
+     * 정렬된 링(TreeMap)으로부터 스냅샷 생성
+     * 같은 순회에서 각 토큰이 소유한 구간(직전 토큰, 토큰]의 길이를 노드별로 합산하여 정확한 점유율을 계산.
+     *
+     * @param nonNegative 키 공간이 [0, 2^63)인지 (기존 SHA-1 호환 해시)
+     * @param epoch       스냅샷의 멤버십 변경 번호
+     */
+    static RingSnapshot of(SortedMap<Long, Node> ring, boolean nonNegative, long epoch) {
+        if (ring.isEmpty()) {
+            return epoch == 0 ? EMPTY : new RingSnapshot(new long[0], new int[0], new Node[0], new double[0], epoch);
+        }
+
+        long mask = nonNegative ? Long.MAX_VALUE : -1L;
+        double space = nonNegative ? 0x1.0p63 : 0x1.0p64;
+
+        long[] tokens = new long[ring.size()];
+        int[] nodeIndexes = new int[ring.size()];
+        double[] arcs = new double[ring.size()]; // 노드 인덱스별 구간 길이 합 (노드 수 이하만 사용)
+        Map<Node, Integer> indexByNode = new IdentityHashMap<>();
+
+        long previous = ring.lastKey();
+        int i = 0;
+        for (Map.Entry<Long, Node> entry : ring.entrySet()) {
+            long token = entry.getKey();
+            long arc = (token - previous) & mask;
+            int nodeIndex = indexByNode.computeIfAbsent(entry.getValue(), n -> indexByNode.size());
+
+            tokens[i] = token;
+            nodeIndexes[i] = nodeIndex;
+            arcs[nodeIndex] += arc == 0 ? space : unsignedToDouble(arc); // 토큰이 하나면 키 공간 전체
+            previous = token;
+            i++;
+        }
+
+        Node[] nodes = new Node[indexByNode.size()];
+        indexByNode.forEach((node, index) -> nodes[index] = node);
+
+        double[] shares = new double[nodes.length];
+        for (int n = 0; n < nodes.length; n++) {
+            shares[n] = arcs[n] / space;
+        }
+
+        return new RingSnapshot(tokens, nodeIndexes, nodes, shares, epoch);
+    }
+
+    /**
+     * 두 스냅샷 사이에서 담당 노드가 바뀐 구간 목록 (구간 끝 토큰 오름차순, 인접한 같은 이동은 하나로 합침)
+     * 두 정렬된 토큰 배열을 한 번 병합하며, 합친 경계점 사이의 각 구간은 양쪽에서 자신 이상인 첫 토큰의 소유자가 담당.
+     * 어느 한쪽이 비어 있으면 옮길 대상이나 목적지가 없으므로 빈 목록.
+     *
+     * @param nonNegative 키 공간이 [0, 2^63)인지 (점유율 계산용)
+     */
+    static List<MovedRange> diff(RingSnapshot before, RingSnapshot after, boolean nonNegative) {
+        List<MovedRange> ranges = new ArrayList<>();
+        if (before.isEmpty() || after.isEmpty()) {
+            return ranges;
+        }
+
+        long mask = nonNegative ? Long.MAX_VALUE : -1L;
+        double space = nonNegative ? 0x1.0p63 : 0x1.0p64;
+        long[] a = before.tokens;
+        long[] b = after.tokens;
+
+        long previous = Math.max(a[a.length - 1], b[b.length - 1]); // 첫 구간은 링의 마지막 경계에서 시작
+        int i = 0;
+        int j = 0;
+        while (i < a.length || j < b.length) {
+            long boundary;
+            if (j == b.length || (i < a.length && a[i] <= b[j])) {
+                boundary = a[i];
+            } else {
+                boundary = b[j];
+            }
+
+            // (previous, boundary] 구간의 담당자 (끝까지 진행했으면 링의 처음 토큰)
+            Node from = before.ownerAt(i < a.length ? i : 0);
+            Node to = after.ownerAt(j < b.length ? j : 0);
+            if (!from.getId().equals(to.getId())) {
+                MovedRange last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+                if (last != null && last.getEndToken() == previous && sameMove(last, from, to)) {
+                    ranges.set(ranges.size() - 1, new MovedRange(last.getStartToken(), boundary, from, to,
+                            arcShare(last.getStartToken(), boundary, mask, space)));
+                } else {
+                    ranges.add(new MovedRange(previous, boundary, from, to, arcShare(previous, boundary, mask, space)));
+                }
+            }
+
+            if (i < a.length && a[i] == boundary) {
+                i++;
+            }
+            if (j < b.length && b[j] == boundary) {
+                j++;
+            }
+            previous = boundary;
+        }
+
+        // 링 끝을 넘어 이어지는 같은 이동은 하나로 합침
+        int last = ranges.size() - 1;
+        if (last > 0) {
+            MovedRange head = ranges.get(0);
+            MovedRange tail = ranges.get(last);
+            if (tail.getEndToken() == head.getStartToken() && sameMove(head, tail.getFromNode(), tail.getToNode())) {
+                ranges.set(0, new MovedRange(tail.getStartToken(), head.getEndToken(), head.getFromNode(),
+                        head.getToNode(), head.getShare() + tail.getShare()));
+                ranges.remove(last);
+            }
+        }
+
+        return ranges;
+    }
+
+    private static boolean sameMove(MovedRange range, Node from, Node to) {
+        return range.getFromNode().getId().equals(from.getId()) && range.getToNode().getId().equals(to.getId());
+    }
+
+    private static double arcShare(long start, long end, long mask, double space) {
+        long arc = (end - start) & mask;
+        return arc == 0 ? 1.0 : unsignedToDouble(arc) / space;
+    }
+
+    private static double unsignedToDouble(long value) {
+        return (double) (value >>> 1) * 2 + (value & 1);
+    }
+
+    /**
+     * 해시 값을 담당하는 노드 반환 (시계방향 첫 토큰의 소유자)
+     */
+    public Node getNode(long hash) {
+        if (tokens.length == 0) {
+            return null;
+        }
+        return nodes[nodeIndexes[ceilingIndex(hash)]];
+    }
+
+    /**
+     * 해시 값보다 크거나 같은 첫 토큰의 인덱스 (없으면 링의 처음으로 돌아가 0)
+     */
+    int ceilingIndex(long hash) {
+        int low = 0;
+        int high = tokens.length - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long token = tokens[mid];
+            if (token < hash) {
+                low = mid + 1;
+            } else if (token > hash) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return low == tokens.length ? 0 : low;
+    }
+
+    /**
+     * 여러 해시 값의 담당 노드 인덱스를 한 번에 계산 (결과는 hashes와 같은 순서)
+     * 해시를 정렬한 뒤 토큰 배열과 한 방향으로만 진행하는 병합으로 담당 토큰을 찾음.
+     * 다음 해시의 위치는 직전 위치부터 지수 탐색하므로 키가 링보다 훨씬 적어도 전체 토큰을 훑지 않음.
+     */
+    int[] locateAll(long[] hashes) {
+        int count = hashes.length;
+        int[] owners = new int[count];
+
+        if (count < MERGE_THRESHOLD) {
+            for (int i = 0; i < count; i++) {
+                owners[i] = nodeIndexes[ceilingIndex(hashes[i])];
+            }
+            return owners;
+        }
+
+        long[] sorted = hashes.clone();
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        PairSort.sort(sorted, order);
+
+        int position = 0;
+        for (int i = 0; i < count; i++) {
+            position = ceilingIndexFrom(sorted[i], position);
+            owners[order[i]] = nodeIndexes[position == tokens.length ? 0 : position];
+        }
+
+        return owners;
+    }
+
+    /**
+     * from 이후에서 해시 값 이상인 첫 토큰의 인덱스 (없으면 tokens.length)
+     */
+    private int ceilingIndexFrom(long hash, int from) {
+        if (from >= tokens.length || tokens[from] >= hash) {
+            return from;
+        }
+
+        // 지수 탐색으로 범위를 좁힌 뒤 이진 탐색
+        int step = 1;
+        int low = from + 1;
+        int high = from + step;
+        while (high < tokens.length && tokens[high] < hash) {
+            low = high + 1;
+            step <<= 1;
+            high = from + step;
+        }
+        high = Math.min(high, tokens.length - 1);
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (tokens[mid] < hash) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * 해시 값에서 시계방향으로 서로 다른 물리 노드 count개 반환 (노드 수보다 많으면 전체 노드)
+     * 토큰별 선호 목록을 미리 계산해 두므로 같은 물리 노드의 가상 노드를 건너뛰며 링을 훑지 않음.
+     */
+    public List<Node> getReplicas(long hash, int count) {
+        if (tokens.length == 0) {
+            return List.of();
+        }
+
+        int depth = Math.min(count, nodes.length);
+        PreferenceTable table = preferences;
+        if (table == null || table.depth < depth) {
+            table = buildPreferenceTable(depth);
+            preferences = table; // 동시에 여러 스레드가 만들어도 결과는 같음
+        }
+
+        int base = ceilingIndex(hash) * table.depth;
+        List<Node> replicas = new ArrayList<>(depth);
+        for (int i = 0; i < depth; i++) {
+            replicas.add(nodes[table.nodeIndexes[base + i]]);
+        }
+        return replicas;
+    }
+
+    /**
+     * 모든 토큰에 대해 시계방향으로 서로 다른 물리 노드 depth개의 목록을 계산
+     * 토큰 i의 목록은 자신의 소유자 뒤에 토큰 i+1의 목록(소유자 제외)을 이어 붙인 것이므로,
+     * 링 끝에서부터 거꾸로 O(토큰 수 × depth)에 계산 가능.
+     */
+    private PreferenceTable buildPreferenceTable(int depth) {
+        int size = tokens.length;
+        int[] table = new int[size * depth];
+
+        // 마지막 토큰은 링을 한 바퀴 돌며 직접 계산
+        int last = (size - 1) * depth;
+        int filled = 0;
+        for (int step = 0; filled < depth; step++) {
+            int nodeIndex = nodeIndexes[(size - 1 + step) % size];
+            if (!contains(table, last, filled, nodeIndex)) {
+                table[last + filled++] = nodeIndex;
+            }
+        }
+
+        for (int i = size - 2; i >= 0; i--) {
+            int base = i * depth;
+            int next = base + depth;
+            int owner = nodeIndexes[i];
+
+            table[base] = owner;
+            filled = 1;
+            for (int j = 0; j < depth && filled < depth; j++) {
+                if (table[next + j] != owner) {
+                    table[base + filled++] = table[next + j];
+                }
+            }
+        }
+
+        return new PreferenceTable(depth, table);
+    }
+
+    private static boolean contains(int[] table, int from, int length, int nodeIndex) {
+        for (int i = from; i < from + length; i++) {
+            if (table[i] == nodeIndex) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 토큰별 선호 노드 목록 (토큰 i의 목록은 nodeIndexes[i * depth] 부터 depth개)
+     */
+    private static final class PreferenceTable {
+        private final int depth;
+        private final int[] nodeIndexes;
+
+        private PreferenceTable(int depth, int[] nodeIndexes) {
+            this.depth = depth;
+            this.nodeIndexes = nodeIndexes;
+        }
+    }
+
+    /**
+     * 토큰 인덱스의 토큰 값
+     */
+    long tokenAt(int tokenIndex) {
+        return tokens[tokenIndex];
+    }
+
+    /**
+     * 토큰 인덱스의 소유 노드 인덱스
+     */
+    int nodeIndexAt(int tokenIndex) {
+        return nodeIndexes[tokenIndex];
+    }
+
+    /**
+     * 토큰 인덱스의 소유 노드
+     */
+    Node ownerAt(int tokenIndex) {
+        return nodes[nodeIndexes[tokenIndex]];
+    }
+
+    /**
+     * 노드 인덱스에 해당하는 물리 노드
+     */
+    Node nodeAt(int nodeIndex) {
+        return nodes[nodeIndex];
+    }
+
+    /**
+     * 물리 노드별 키 공간 점유율 (0~1, 합계 1, 첫 토큰 순서)
+     */
+    public Map<String, Double> getOwnership() {
+        Map<String, Double> ownership = new LinkedHashMap<>();
+        for (int n = 0; n < nodes.length; n++) {
+            ownership.put(nodes[n].getId(), shares[n]);
+        }
+        return ownership;
+    }
+
+    /**
+     * 멤버십 변경 번호 (같은 인스턴스에서 단조 증가)
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public boolean isEmpty() {
+        return tokens.length == 0;
+    }
+
+    /**
+     * 가상 노드(토큰) 수
+     */
+    public int size() {
+        return tokens.length;
+    }
+
+    /**
+     * 물리 노드 수
+     */
+    public int nodeCount() {
+        return nodes.length;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+import com.example.consistenthash.service.hash.HashFunction;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 클라이언트 측 라우팅을 위한 링 스냅샷 바이너리 형식 (빅 엔디언)
+ *
+ * <pre>
+ * int    매직 ('CHRS')
+ * short  형식 버전
+ * long   링 변경 번호
+ * str    해시 함수 이름
+ * int    노드 수, 이어서 노드마다 str ID, str 호스트, int 포트, int 가중치
+ * int    토큰 수
+ * long[] 정렬된 토큰
+ * int[]  토큰별 소유 노드 인덱스
+ * </pre>
+ * str은 unsigned short 바이트 길이 + UTF-8 바이트.
+ */
+public final class RingSnapshotFormat {
+
+    public static final int MAGIC = 0x43485253; // "CHRS"
+    public static final short VERSION = 1;
+    public static final String CONTENT_TYPE = "application/vnd.consistent-hash.ring";
+
+    private static final int EPOCH_OFFSET = 4 + 2; // 매직, 버전 다음
+
+    private RingSnapshotFormat() {}
+
+    /**
+     * 스냅샷을 바이너리 형식으로 인코딩
+     */
+    public static byte[] encode(RingSnapshot snapshot, HashFunction hashFunction) {
+        int nodeCount = snapshot.nodeCount();
+        int tokenCount = snapshot.size();
+
+        byte[] hashName = utf8(hashFunction.name());
+        byte[][] strings = new byte[nodeCount * 2][];
+        int size = 4 + 2 + 8 + 2 + hashName.length + 4 + 4 + tokenCount * (8 + 4);
+        for (int n = 0; n < nodeCount; n++) {
+            Node node = snapshot.nodeAt(n);
+            strings[n * 2] = utf8(node.getId());
+            strings[n * 2 + 1] = utf8(node.getHost());
+            size += 2 + strings[n * 2].length + 2 + strings[n * 2 + 1].length + 4 + 4;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putLong(snapshot.getEpoch());
+        putString(buffer, hashName);
+
+        buffer.putInt(nodeCount);
+        for (int n = 0; n < nodeCount; n++) {
+            Node node = snapshot.nodeAt(n);
+            putString(buffer, strings[n * 2]);
+            putString(buffer, strings[n * 2 + 1]);
+            buffer.putInt(node.getPort());
+            buffer.putInt(node.getWeight());
+        }
+
+        buffer.putInt(tokenCount);
+        for (int i = 0; i < tokenCount; i++) {
+            buffer.putLong(snapshot.tokenAt(i));
+        }
+        for (int i = 0; i < tokenCount; i++) {
+            buffer.putInt(snapshot.nodeIndexAt(i));
+        }
+
+        return buffer.array();
+    }
+
+    /**
+     * 인코딩된 스냅샷의 링 변경 번호 (전체를 파싱하지 않고 헤더만 읽음)
+     */
+    public static long epochOf(byte[] encoded) {
+        return ByteBuffer.wrap(encoded).getLong(EPOCH_OFFSET);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("문자열이 너무 깁니다 (최대 65535바이트): " + bytes.length);
+        }
+        return bytes;
+    }
+}
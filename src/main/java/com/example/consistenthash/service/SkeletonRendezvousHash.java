@@ -0,0 +1,265 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+import com.example.consistenthash.service.hash.HashFunction;
+
+import java.util.*;
+
+/**
+ * 스켈레톤 기반 계층형 랑데부 해시 엔진
+ * 고정된 가상 트리(스켈레톤)의 각 단계에서 자식 fanout개 중 하나를 랑데부 해시로 고르고,
+ * 도달한 리프 클러스터 안에서 다시 랑데부 해시로 노드를 선택.
+ * 조회 비용은 O(fanout × 깊이 + 클러스터 크기)로 1000개 이상의 노드에서도 전체 노드를 훑지 않음.
+ *
+ * 노드는 ID 해시로 리프 클러스터가 정해지고, 하위 트리의 선택 가중치는 그 안의 노드 가중치 합이므로
+ * 키 분포는 가중치에 비례. 노드 추가/제거 시 해당 노드의 키 외에도 경로상 하위 트리의 가중치 변화로
+ * 일부 키가 이동하지만, 그 양은 변경된 노드 몫의 약 깊이(depth)배 이내로 한정됨.
+ */
+public class SkeletonRendezvousHash implements ConsistentHashEngine {
+
+    public static final String NAME = "rendezvous-skeleton";
+    public static final int DEFAULT_FANOUT = 8;
+    public static final int DEFAULT_DEPTH = 3; // 기본 리프 클러스터 수 8^3 = 512
+
+    private final HashFunction hashFunction;
+    private final int fanout;
+    private final int depth;
+    private final int leafCount;
+    private final long[][] childSeeds; // 단계별 스켈레톤 정점의 시드 (level 1 ~ depth)
+
+    private final Map<String, Node> nodes; // 추가 순서 유지 (this로 동기화)
+    private final Map<String, Double> weights; // 노드 ID → 가중치 (this로 동기화)
+    private volatile Skeleton skeleton;
+
+    public SkeletonRendezvousHash(HashFunction hashFunction) {
+        this(hashFunction, DEFAULT_FANOUT, DEFAULT_DEPTH);
+    }
+
+    public SkeletonRendezvousHash(HashFunction hashFunction, int fanout, int depth) {
+        if (fanout < 2) {
+            throw new IllegalArgumentException("fanout은 2 이상이어야 합니다: " + fanout);
+        }
+        if (depth < 1 || Math.pow(fanout, depth) > (1 << 20)) {
+            throw new IllegalArgumentException("리프 클러스터 수(fanout^depth)는 1 ~ 2^20 이어야 합니다: "
+                    + fanout + "^" + depth);
+        }
+
+        this.hashFunction = hashFunction;
+        this.fanout = fanout;
+        this.depth = depth;
+
+        this.childSeeds = new long[depth + 1][];
+        int width = 1;
+        for (int level = 1; level <= depth; level++) {
+            width *= fanout;
+            childSeeds[level] = new long[width];
+            for (int i = 0; i < width; i++) {
+                childSeeds[level][i] = hashFunction.hash("skeleton#" + level + "#" + i);
+            }
+        }
+        this.leafCount = width;
+
+        this.nodes = new LinkedHashMap<>();
+        this.weights = new HashMap<>();
+        this.skeleton = buildSkeleton();
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    /**
+     * 노드의 가중치(Node.getWeight)로 추가
+     */
+    @Override
+    public void addNode(Node node) {
+        addNode(node, node.getWeight());
+    }
+
+    /**
+     * 가중치를 지정하여 노드 추가 (키 점유 비율이 가중치에 비례)
+     */
+    public synchronized void addNode(Node node, double weight) {
+        if (!(weight > 0)) {
+            throw new IllegalArgumentException("가중치는 0보다 커야 합니다: " + weight);
+        }
+        if (nodes.putIfAbsent(node.getId(), node) != null) {
+            return; // 이미 존재하는 노드
+        }
+        weights.put(node.getId(), weight);
+        skeleton = buildSkeleton();
+    }
+
+    @Override
+    public synchronized boolean updateWeight(String nodeId, int weight) {
+        Node current = nodes.get(nodeId);
+        if (current == null) {
+            return false;
+        }
+
+        nodes.put(nodeId, current.withWeight(weight)); // 추가 순서 유지
+        weights.put(nodeId, (double) weight);
+        skeleton = buildSkeleton();
+        return true;
+    }
+
+    @Override
+    public synchronized void removeNode(String nodeId) {
+        if (nodes.remove(nodeId) == null) {
+            return; // 존재하지 않는 노드
+        }
+        weights.remove(nodeId);
+        skeleton = buildSkeleton();
+    }
+
+    @Override
+    public Node getNode(String key) {
+        return getNode((CharSequence) key);
+    }
+
+    @Override
+    public Node getNode(CharSequence key) {
+        Skeleton current = skeleton;
+        if (current.nodeCount == 0) {
+            return null;
+        }
+
+        long keyHash = hashFunction.hash(key);
+
+        // 루트에서 리프 클러스터까지 단계마다 fanout개의 자식 중 하나를 선택
+        int index = 0;
+        for (int level = 1; level <= depth; level++) {
+            int first = index * fanout;
+            index = first + RendezvousHash.selectWeighted(
+                    keyHash, childSeeds[level], current.subtreeWeights[level], first, fanout);
+        }
+
+        Cluster cluster = current.clusters[index];
+        return cluster.nodes[cluster.select(keyHash)];
+    }
+
+    /**
+     * 노드 ID로부터 리프 클러스터 결정 (멤버십과 무관하게 항상 같은 클러스터)
+     */
+    private int leafOf(String nodeId) {
+        return (int) Long.remainderUnsigned(hashFunction.hash(nodeId + "#leaf"), leafCount);
+    }
+
+    private Skeleton buildSkeleton() {
+        Map<Integer, List<Node>> members = new HashMap<>();
+        for (Node node : nodes.values()) {
+            members.computeIfAbsent(leafOf(node.getId()), k -> new ArrayList<>()).add(node);
+        }
+
+        Cluster[] clusters = new Cluster[leafCount];
+        double[][] subtreeWeights = new double[depth + 1][];
+        subtreeWeights[depth] = new double[leafCount];
+
+        for (int leaf = 0; leaf < leafCount; leaf++) {
+            List<Node> list = members.getOrDefault(leaf, List.of());
+            Node[] clusterNodes = list.toArray(new Node[0]);
+            long[] seeds = new long[clusterNodes.length];
+            double[] clusterWeights = new double[clusterNodes.length];
+            double total = 0;
+            for (int i = 0; i < clusterNodes.length; i++) {
+                seeds[i] = hashFunction.hash(clusterNodes[i].getId());
+                clusterWeights[i] = weights.get(clusterNodes[i].getId());
+                total += clusterWeights[i];
+            }
+            clusters[leaf] = new Cluster(clusterNodes, seeds, clusterWeights);
+            subtreeWeights[depth][leaf] = total;
+        }
+
+        // 리프에서 루트 방향으로 하위 트리 가중치 합산
+        for (int level = depth - 1; level >= 1; level--) {
+            double[] below = subtreeWeights[level + 1];
+            double[] current = new double[below.length / fanout];
+            for (int i = 0; i < below.length; i++) {
+                current[i / fanout] += below[i];
+            }
+            subtreeWeights[level] = current;
+        }
+
+        return new Skeleton(clusters, subtreeWeights, nodes.size());
+    }
+
+    @Override
+    public Map<String, Object> getRingInfo() {
+        Map<String, Object> info = new HashMap<>();
+        Skeleton current = skeleton;
+
+        info.put("물리노드수", current.nodeCount);
+        info.put("가상노드수", 0); // 가상 노드를 사용하지 않음
+        info.put("노드목록", nodeIds());
+
+        // 샘플 키 1000개로 분포 계산
+        Map<String, Integer> distribution = new HashMap<>();
+        if (current.nodeCount > 0) {
+            for (int i = 0; i < 1000; i++) {
+                distribution.merge(getNode("key_" + i).getId(), 1, Integer::sum);
+            }
+        }
+        info.put("데이터분포", distribution);
+
+        return info;
+    }
+
+    private synchronized List<String> nodeIds() {
+        return new ArrayList<>(nodes.keySet());
+    }
+
+    @Override
+    public int getNodeCount() {
+        return skeleton.nodeCount;
+    }
+
+    @Override
+    public synchronized void clear() {
+        nodes.clear();
+        weights.clear();
+        skeleton = buildSkeleton();
+    }
+
+    public int getFanout() {
+        return fanout;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * 불변 스켈레톤 (subtreeWeights[level][i]는 해당 단계 i번째 정점 아래 노드 가중치 합)
+     */
+    private static final class Skeleton {
+        private final Cluster[] clusters;
+        private final double[][] subtreeWeights;
+        private final int nodeCount;
+
+        private Skeleton(Cluster[] clusters, double[][] subtreeWeights, int nodeCount) {
+            this.clusters = clusters;
+            this.subtreeWeights = subtreeWeights;
+            this.nodeCount = nodeCount;
+        }
+    }
+
+    /**
+     * 리프 클러스터의 불변 멤버 목록
+     */
+    private static final class Cluster {
+        private final Node[] nodes;
+        private final long[] seeds;
+        private final double[] weights;
+
+        private Cluster(Node[] nodes, long[] seeds, double[] weights) {
+            this.nodes = nodes;
+            this.seeds = seeds;
+            this.weights = weights;
+        }
+
+        private int select(long keyHash) {
+            return RendezvousHash.selectWeighted(keyHash, seeds, weights, seeds.length);
+        }
+    }
+}
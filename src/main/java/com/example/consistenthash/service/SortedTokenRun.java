@@ -0,0 +1,141 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * 정렬된 토큰 배열과 소유 노드 배열의 [from, to) 구간을 읽기 전용 SortedMap으로 노출
+ * TreeMap(SortedMap) 생성자는 정렬된 맵을 선형 시간에 복사하므로 (토큰별 put은 O(n log n)),
+ * 병합한 토큰 묶음으로 링을 다시 만들 때 사용. 토큰은 중복 없이 오름차순이어야 함.
+ * 조회는 이진 탐색, 부분 맵은 배열을 복사하지 않는 구간 뷰.
+ */
+final class SortedTokenRun extends AbstractMap<Long, Node> implements SortedMap<Long, Node> {
+
+    private final long[] tokens;
+    private final Node[] owners;
+    private final int from;
+    private final int to;
+
+    SortedTokenRun(long[] tokens, Node[] owners, int size) {
+        this(tokens, owners, 0, size);
+    }
+
+    private SortedTokenRun(long[] tokens, Node[] owners, int from, int to) {
+        this.tokens = tokens;
+        this.owners = owners;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public int size() {
+        return to - from;
+    }
+
+    @Override
+    public Comparator<? super Long> comparator() {
+        return null; // TreeMap 기본 정렬과 같음
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Node get(Object key) {
+        int index = indexOf(key);
+        return index >= 0 ? owners[index] : null;
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof Long token)) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(tokens, from, to, token);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * key 이상인 첫 토큰의 인덱스 (구간 안으로 제한)
+     */
+    private int ceilingIndex(long key) {
+        int index = Arrays.binarySearch(tokens, from, to, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    @Override
+    public Long firstKey() {
+        if (from == to) {
+            throw new NoSuchElementException();
+        }
+        return tokens[from];
+    }
+
+    @Override
+    public Long lastKey() {
+        if (from == to) {
+            throw new NoSuchElementException();
+        }
+        return tokens[to - 1];
+    }
+
+    @Override
+    public SortedMap<Long, Node> subMap(Long fromKey, Long toKey) {
+        if (fromKey > toKey) {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        return new SortedTokenRun(tokens, owners, ceilingIndex(fromKey), ceilingIndex(toKey));
+    }
+
+    @Override
+    public SortedMap<Long, Node> headMap(Long toKey) {
+        return new SortedTokenRun(tokens, owners, from, ceilingIndex(toKey));
+    }
+
+    @Override
+    public SortedMap<Long, Node> tailMap(Long fromKey) {
+        return new SortedTokenRun(tokens, owners, ceilingIndex(fromKey), to);
+    }
+
+    @Override
+    public Set<Map.Entry<Long, Node>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<Long, Node>> iterator() {
+                return new Iterator<>() {
+                    private int index = from;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < to;
+                    }
+
+                    @Override
+                    public Map.Entry<Long, Node> next() {
+                        if (index >= to) {
+                            throw new NoSuchElementException();
+                        }
+                        Map.Entry<Long, Node> entry = new SimpleImmutableEntry<>(tokens[index], owners[index]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return to - from;
+            }
+        };
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * StampedLock 낙관적 읽기로 조회하는 제자리 수정 해시 링 (ConcurrencyMode.OPTIMISTIC)
+ * 정렬된 토큰 배열과 같은 위치의 소유 노드 배열을 쓰기 락 안에서 병합/압축으로 수정하고,
+ * 조회는 락 없이 필드를 지역 변수로 읽어 탐색한 뒤 스탬프를 검증하여 실패하면 읽기 락으로 다시 탐색.
+ * 탐색 중 배열이 수정되어도 인덱스는 항상 배열 범위 안에 있고 탐색은 종료되므로 투기적으로 읽어도 안전.
+ * 변경은 호출자(ConsistentHash)의 쓰기 락으로 직렬화된다고 가정.
+ */
+final class StampedRing {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final StampedLock lock = new StampedLock();
+    private long[] tokens = new long[INITIAL_CAPACITY]; // 0~size-1 구간이 오름차순 정렬
+    private Node[] owners = new Node[INITIAL_CAPACITY]; // tokens[i]의 소유 노드
+    private int size;
+
+    /**
+     * 해시 값을 담당하는 노드 (시계방향 첫 토큰의 소유자, 비어 있으면 null)
+     */
+    Node getNode(long hash) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            Node node = find(hash);
+            if (lock.validate(stamp)) {
+                return node;
+            }
+        }
+
+        // 조회 중 변경이 있었으면 읽기 락으로 다시 탐색
+        stamp = lock.readLock();
+        try {
+            return find(hash);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private Node find(long hash) {
+        long[] currentTokens = tokens;
+        Node[] currentOwners = owners;
+        int count = Math.min(size, Math.min(currentTokens.length, currentOwners.length));
+        if (count == 0) {
+            return null;
+        }
+
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long token = currentTokens[mid];
+            if (token < hash) {
+                low = mid + 1;
+            } else if (token > hash) {
+                high = mid - 1;
+            } else {
+                return currentOwners[mid];
+            }
+        }
+        return currentOwners[low == count ? 0 : low];
+    }
+
+    /**
+     * 노드의 토큰들을 추가 (이미 있는 토큰은 소유 노드만 교체)
+     * 토큰 충돌의 소유자 결정은 호출자가 하며, 충돌이 있으면 이 메서드 대신 load로 링 전체를 적재.
+     * 새 토큰을 정렬한 뒤 배열 끝에서부터 거꾸로 병합하므로 O(토큰 수 + 새 토큰 수 × log).
+     */
+    void insert(long[] newTokens, int from, int to, Node node) {
+        long[] added = Arrays.copyOfRange(newTokens, from, to);
+        Arrays.sort(added);
+
+        long stamp = lock.writeLock();
+        try {
+            // 기존 토큰과 겹치는 것은 소유 노드만 교체
+            int unique = 0;
+            for (int i = 0; i < added.length; i++) {
+                if (i > 0 && added[i] == added[i - 1]) {
+                    continue;
+                }
+                int index = Arrays.binarySearch(tokens, 0, size, added[i]);
+                if (index >= 0) {
+                    owners[index] = node;
+                } else {
+                    added[unique++] = added[i];
+                }
+            }
+            if (unique == 0) {
+                return;
+            }
+
+            int total = size + unique;
+            if (total > tokens.length) {
+                int capacity = Math.max(total, tokens.length + (tokens.length >> 1));
+                tokens = Arrays.copyOf(tokens, capacity);
+                owners = Arrays.copyOf(owners, capacity);
+            }
+
+            int i = size - 1;
+            int j = unique - 1;
+            for (int k = total - 1; j >= 0; k--) {
+                if (i >= 0 && tokens[i] > added[j]) {
+                    tokens[k] = tokens[i];
+                    owners[k] = owners[i--];
+                } else {
+                    tokens[k] = added[j--];
+                    owners[k] = node;
+                }
+            }
+            size = total;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 노드의 토큰들을 제거 (다른 노드가 소유한 토큰은 유지, 충돌 토큰의 승계는 호출자가 load로 반영)
+     * 제거할 토큰을 정렬한 뒤 배열을 한 번 훑으며 압축하므로 O(토큰 수).
+     */
+    void remove(long[] removedTokens, int from, int to, Node node) {
+        long[] removed = Arrays.copyOfRange(removedTokens, from, to);
+        Arrays.sort(removed);
+
+        long stamp = lock.writeLock();
+        try {
+            int kept = 0;
+            int r = 0;
+            for (int i = 0; i < size; i++) {
+                long token = tokens[i];
+                while (r < removed.length && removed[r] < token) {
+                    r++;
+                }
+                if (r < removed.length && removed[r] == token && node.equals(owners[i])) {
+                    continue;
+                }
+                tokens[kept] = token;
+                owners[kept++] = owners[i];
+            }
+            Arrays.fill(owners, kept, size, null);
+            size = kept;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 토큰들의 소유 노드를 교체 (가중치 변경처럼 토큰은 유지되고 노드 정보만 바뀌는 경우)
+     */
+    void replaceOwner(long[] ownedTokens, int from, int to, Node current, Node updated) {
+        long stamp = lock.writeLock();
+        try {
+            for (int i = from; i < to; i++) {
+                int index = Arrays.binarySearch(tokens, 0, size, ownedTokens[i]);
+                if (index >= 0 && current.equals(owners[index])) {
+                    owners[index] = updated;
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 링 전체를 새 배열로 교체 (일괄 변경처럼 여러 노드가 한 번에 바뀔 때, 조회자는 교체 전 또는 후만 봄)
+     * 새 배열은 락 밖에서 채우므로 쓰기 락은 참조 교체 동안만 잡음.
+     */
+    void load(SortedMap<Long, Node> ring) {
+        int capacity = Math.max(INITIAL_CAPACITY, ring.size());
+        long[] newTokens = new long[capacity];
+        Node[] newOwners = new Node[capacity];
+        int count = 0;
+        for (Map.Entry<Long, Node> entry : ring.entrySet()) {
+            newTokens[count] = entry.getKey();
+            newOwners[count++] = entry.getValue();
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            tokens = newTokens;
+            owners = newOwners;
+            size = count;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void clear() {
+        long stamp = lock.writeLock();
+        try {
+            Arrays.fill(owners, 0, size, null);
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+}
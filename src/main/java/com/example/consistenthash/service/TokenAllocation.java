@@ -0,0 +1,30 @@
+package com.example.consistenthash.service;
+
+/**
+ * 가상 노드 토큰 배치 전략
+ */
+public enum TokenAllocation {
+
+    /**
+     * hash(노드ID#번호) 위치에 배치 (기존 방식, 멤버십만으로 토큰이 결정됨)
+     */
+    HASHED,
+
+    /**
+     * 노드 합류 시 가중치 대비 점유율이 가장 높은 노드의 가장 긴 구간에서, 합류 노드의 목표 점유율을
+     * 토큰 수로 나눈 만큼씩 앞부분을 떼어 오는 위치에 배치 (Cassandra의 토큰 할당 방식과 유사)
+     * 적은 가상 노드 수로도 균등한 분포를 얻지만, 토큰이 합류 순서에 따라 달라짐.
+     */
+    BALANCED;
+
+    /**
+     * 설정 값으로 전략 조회 (hashed, balanced)
+     */
+    public static TokenAllocation of(String name) {
+        return switch (name.trim().toLowerCase()) {
+            case "hashed" -> HASHED;
+            case "balanced" -> BALANCED;
+            default -> throw new IllegalArgumentException("지원하지 않는 토큰 배치 전략입니다: " + name);
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.consistenthash.service.hash;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 해시 링에서 사용하는 64비트 해시 함수 전략
+ * 구현체는 상태를 공유하지 않아 여러 스레드에서 동시에 호출 가능해야 함.
+ */
+public interface HashFunction {
+
+    /**
+     * 설정 파일 등에서 사용하는 해시 함수 이름
+     */
+    String name();
+
+    /**
+     * 바이트 배열의 지정 구간을 64비트 값으로 해시
+     */
+    long hash(byte[] data, int offset, int length);
+
+    default long hash(byte[] data) {
+        return hash(data, 0, data.length);
+    }
+
+    /**
+     * 버퍼의 position부터 limit까지를 해시 (position은 변경하지 않음)
+     * 힙 버퍼는 내부 배열을, 다이렉트 버퍼는 복사 없이 버퍼를 직접 읽음.
+     */
+    long hash(ByteBuffer buffer);
+
+    /**
+     * 문자열의 UTF-8 바이트를 해시 (getBytes(UTF_8) 결과를 해시한 값과 동일)
+     */
+    default long hash(CharSequence chars) {
+        return Utf8.hash(this, chars);
+    }
+
+    /**
+     * 해시 값이 항상 0 이상인지 (true면 키 공간이 [0, 2^63), 아니면 64비트 전체)
+     */
+    default boolean nonNegative() {
+        return false;
+    }
+
+    /**
+     * 이름으로 해시 함수 조회 (sha1, sha1-64, murmur3, xxhash64)
+     */
+    static HashFunction of(String name) {
+        return switch (name.trim().toLowerCase()) {
+            case Sha1HashFunction.NAME -> Sha1HashFunction.INSTANCE;
+            case Sha1HashFunction.FULL_RANGE_NAME -> Sha1HashFunction.FULL_RANGE;
+            case Murmur3HashFunction.NAME -> Murmur3HashFunction.INSTANCE;
+            case XxHash64HashFunction.NAME -> XxHash64HashFunction.INSTANCE;
+            default -> throw new IllegalArgumentException("지원하지 않는 해시 함수입니다: " + name);
+        };
+    }
+}
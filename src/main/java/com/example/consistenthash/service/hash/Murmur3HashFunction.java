@@ -0,0 +1,140 @@
+package com.example.consistenthash.service.hash;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * MurmurHash3 x64 128비트 해시 함수 (seed 0)
+ * Cassandra Murmur3Partitioner와 같이 128비트 결과의 앞 64비트(h1)를 토큰으로 사용.
+ */
+public final class Murmur3HashFunction implements HashFunction {
+
+    public static final String NAME = "murmur3";
+    public static final Murmur3HashFunction INSTANCE = new Murmur3HashFunction();
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_LONG_LE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private Murmur3HashFunction() {}
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public long hash(byte[] data, int offset, int length) {
+        long h1 = 0;
+        long h2 = 0;
+
+        // 16바이트 블록 처리
+        int end = offset + (length & ~15);
+        for (int i = offset; i < end; i += 16) {
+            h1 ^= mixK1((long) LONG_LE.get(data, i));
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2((long) LONG_LE.get(data, i + 8));
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        // 남은 바이트 처리 (리틀 엔디안으로 k1, k2 구성)
+        int remaining = length & 15;
+        long k1 = 0;
+        long k2 = 0;
+        for (int i = remaining - 1; i >= 8; i--) {
+            k2 = (k2 << 8) | (data[end + i] & 0xFF);
+        }
+        for (int i = Math.min(remaining, 8) - 1; i >= 0; i--) {
+            k1 = (k1 << 8) | (data[end + i] & 0xFF);
+        }
+
+        return finish(h1, h2, k1, k2, length);
+    }
+
+    @Override
+    public long hash(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return hash(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+
+        int length = buffer.remaining();
+        long h1 = 0;
+        long h2 = 0;
+
+        int end = buffer.position() + (length & ~15);
+        for (int i = buffer.position(); i < end; i += 16) {
+            h1 ^= mixK1((long) BUFFER_LONG_LE.get(buffer, i));
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2((long) BUFFER_LONG_LE.get(buffer, i + 8));
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        int remaining = length & 15;
+        long k1 = 0;
+        long k2 = 0;
+        for (int i = remaining - 1; i >= 8; i--) {
+            k2 = (k2 << 8) | (buffer.get(end + i) & 0xFF);
+        }
+        for (int i = Math.min(remaining, 8) - 1; i >= 0; i--) {
+            k1 = (k1 << 8) | (buffer.get(end + i) & 0xFF);
+        }
+
+        return finish(h1, h2, k1, k2, length);
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        return k1 * C2;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        return k2 * C1;
+    }
+
+    private static long finish(long h1, long h2, long k1, long k2, int length) {
+        int remaining = length & 15;
+        if (remaining > 8) {
+            h2 ^= mixK2(k2);
+        }
+        if (remaining > 0) {
+            h1 ^= mixK1(k1);
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+
+        h1 += h2;
+        h2 += h1;
+
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+
+        return h1 + h2;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
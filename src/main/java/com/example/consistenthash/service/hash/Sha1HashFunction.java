@@ -0,0 +1,90 @@
+package com.example.consistenthash.service.hash;
+
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-1 해시 함수
+ * 기본(sha1)은 기존 토큰 배치 호환 모드로, 다이제스트 앞 8바이트를 long으로 읽고 Math.abs를 적용하여
+ * 기존 구현과 같은 토큰을 생성 (키 공간 [0, 2^63)). sha1-64는 앞 8바이트를 그대로 사용하여 64비트 전체를 씀.
+ * 문자열은 항상 UTF-8로 인코딩하는 반면 기존 구현은 플랫폼 기본 문자셋(getBytes())을 사용했으므로,
+ * 기본 문자셋이 UTF-8인 환경(JDK 18 이상은 항상 UTF-8)에서만 기존 배치와 호환되며
+ * 다른 문자셋에서 비ASCII 노드 ID/키는 위치가 달라질 수 있음.
+ * MessageDigest와 출력 버퍼는 스레드별로 재사용하여 호출마다 객체를 만들지 않음.
+ */
+public final class Sha1HashFunction implements HashFunction {
+
+    public static final String NAME = "sha1";
+    public static final String FULL_RANGE_NAME = "sha1-64";
+    public static final Sha1HashFunction INSTANCE = new Sha1HashFunction(false);
+    public static final Sha1HashFunction FULL_RANGE = new Sha1HashFunction(true);
+
+    private static final String HASH_ALGORITHM = "SHA-1";
+    private static final int DIGEST_LENGTH = 20;
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(Sha1HashFunction::newDigest);
+    private static final ThreadLocal<byte[]> OUTPUT = ThreadLocal.withInitial(() -> new byte[DIGEST_LENGTH]);
+
+    private final boolean fullRange; // true면 64비트 전체, false면 Math.abs 적용 (기존 배치 호환)
+
+    private Sha1HashFunction(boolean fullRange) {
+        this.fullRange = fullRange;
+    }
+
+    @Override
+    public String name() {
+        return fullRange ? FULL_RANGE_NAME : NAME;
+    }
+
+    @Override
+    public boolean nonNegative() {
+        return !fullRange;
+    }
+
+    @Override
+    public long hash(byte[] data, int offset, int length) {
+        MessageDigest md = DIGEST.get();
+        md.update(data, offset, length);
+        return finish(md, fullRange);
+    }
+
+    @Override
+    public long hash(ByteBuffer buffer) {
+        MessageDigest md = DIGEST.get();
+        int position = buffer.position();
+        md.update(buffer);
+        buffer.position(position);
+        return finish(md, fullRange);
+    }
+
+    private static long finish(MessageDigest md, boolean fullRange) {
+        byte[] digest = OUTPUT.get();
+        try {
+            md.digest(digest, 0, DIGEST_LENGTH);
+        } catch (DigestException e) {
+            throw new IllegalStateException("SHA-1 다이제스트 계산에 실패했습니다", e);
+        }
+
+        // 바이트 배열을 long으로 변환 (첫 8바이트 사용)
+        long hash = 0;
+        for (int i = 0; i < 8; i++) {
+            hash = (hash << 8) | (digest[i] & 0xFF);
+        }
+
+        if (fullRange) {
+            return hash;
+        }
+        // 음수 방지 (기존 배치 호환), Math.abs(Long.MIN_VALUE)는 음수이므로 0으로 대체
+        return hash == Long.MIN_VALUE ? 0 : Math.abs(hash);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("해시 알고리즘을 찾을 수 없습니다: " + HASH_ALGORITHM, e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.consistenthash.service.hash;
+
+/**
+ * CharSequence를 스레드별 재사용 버퍼에 UTF-8로 인코딩하여 해시하는 유틸리티
+ * String.getBytes()처럼 호출마다 새 byte[]를 만들지 않으며, 결과 바이트는 getBytes(UTF_8)과 동일.
+ */
+final class Utf8 {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024; // 이보다 큰 키는 버퍼를 보관하지 않음
+
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[INITIAL_CAPACITY]);
+
+    private Utf8() {}
+
+    static long hash(HashFunction function, CharSequence chars) {
+        int maxLength = chars.length() * 3; // char 하나는 UTF-8로 최대 3바이트 (서로게이트 쌍은 2 char에 4바이트)
+
+        byte[] buffer = SCRATCH.get();
+        if (buffer.length < maxLength) {
+            buffer = new byte[maxLength];
+            if (maxLength <= MAX_RETAINED_CAPACITY) {
+                SCRATCH.set(buffer);
+            }
+        }
+
+        int length = encode(chars, buffer);
+        return function.hash(buffer, 0, length);
+    }
+
+    /**
+     * UTF-8 인코딩 (짝이 맞지 않는 서로게이트는 getBytes와 같이 '?'로 치환)
+     */
+    static int encode(CharSequence chars, byte[] out) {
+        int length = chars.length();
+        int pos = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = chars.charAt(i);
+
+            if (c < 0x80) {
+                out[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                out[pos++] = (byte) (0xC0 | (c >> 6));
+                out[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, chars.charAt(++i));
+                    out[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                    out[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    out[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    out[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    out[pos++] = (byte) '?';
+                }
+            } else {
+                out[pos++] = (byte) (0xE0 | (c >> 12));
+                out[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+
+        return pos;
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.consistenthash.service.hash;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * xxHash64 해시 함수 (seed 0)
+ */
+public final class XxHash64HashFunction implements HashFunction {
+
+    public static final String NAME = "xxhash64";
+    public static final XxHash64HashFunction INSTANCE = new XxHash64HashFunction();
+
+    private static final long P1 = 0x9E3779B185EBCA87L;
+    private static final long P2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long P3 = 0x165667B19E3779F9L;
+    private static final long P4 = 0x85EBCA77C2B2AE63L;
+    private static final long P5 = 0x27D4EB2F165667C5L;
+
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_LONG_LE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_INT_LE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private XxHash64HashFunction() {}
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public long hash(byte[] data, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        long h;
+
+        if (length >= 32) {
+            long v1 = P1 + P2;
+            long v2 = P2;
+            long v3 = 0;
+            long v4 = -P1;
+
+            // 32바이트 스트라이프 처리
+            int limit = end - 32;
+            do {
+                v1 = round(v1, (long) LONG_LE.get(data, i));
+                v2 = round(v2, (long) LONG_LE.get(data, i + 8));
+                v3 = round(v3, (long) LONG_LE.get(data, i + 16));
+                v4 = round(v4, (long) LONG_LE.get(data, i + 24));
+                i += 32;
+            } while (i <= limit);
+
+            h = converge(v1, v2, v3, v4);
+        } else {
+            h = P5;
+        }
+
+        h += length;
+
+        // 남은 바이트 처리
+        while (i + 8 <= end) {
+            h = mixLong(h, (long) LONG_LE.get(data, i));
+            i += 8;
+        }
+        if (i + 4 <= end) {
+            h = mixInt(h, (int) INT_LE.get(data, i));
+            i += 4;
+        }
+        while (i < end) {
+            h = mixByte(h, data[i]);
+            i++;
+        }
+
+        return avalanche(h);
+    }
+
+    @Override
+    public long hash(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return hash(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+
+        int length = buffer.remaining();
+        int end = buffer.limit();
+        int i = buffer.position();
+        long h;
+
+        if (length >= 32) {
+            long v1 = P1 + P2;
+            long v2 = P2;
+            long v3 = 0;
+            long v4 = -P1;
+
+            int limit = end - 32;
+            do {
+                v1 = round(v1, (long) BUFFER_LONG_LE.get(buffer, i));
+                v2 = round(v2, (long) BUFFER_LONG_LE.get(buffer, i + 8));
+                v3 = round(v3, (long) BUFFER_LONG_LE.get(buffer, i + 16));
+                v4 = round(v4, (long) BUFFER_LONG_LE.get(buffer, i + 24));
+                i += 32;
+            } while (i <= limit);
+
+            h = converge(v1, v2, v3, v4);
+        } else {
+            h = P5;
+        }
+
+        h += length;
+
+        while (i + 8 <= end) {
+            h = mixLong(h, (long) BUFFER_LONG_LE.get(buffer, i));
+            i += 8;
+        }
+        if (i + 4 <= end) {
+            h = mixInt(h, (int) BUFFER_INT_LE.get(buffer, i));
+            i += 4;
+        }
+        while (i < end) {
+            h = mixByte(h, buffer.get(i));
+            i++;
+        }
+
+        return avalanche(h);
+    }
+
+    private static long converge(long v1, long v2, long v3, long v4) {
+        long h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7)
+                + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+        h = mergeRound(h, v1);
+        h = mergeRound(h, v2);
+        h = mergeRound(h, v3);
+        return mergeRound(h, v4);
+    }
+
+    private static long mixLong(long h, long k) {
+        h ^= round(0, k);
+        return Long.rotateLeft(h, 27) * P1 + P4;
+    }
+
+    private static long mixInt(long h, int k) {
+        h ^= (k & 0xFFFFFFFFL) * P1;
+        return Long.rotateLeft(h, 23) * P2 + P3;
+    }
+
+    private static long mixByte(long h, byte b) {
+        h ^= (b & 0xFF) * P5;
+        return Long.rotateLeft(h, 11) * P1;
+    }
+
+    private static long round(long acc, long input) {
+        acc += input * P2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * P1;
+    }
+
+    private static long mergeRound(long acc, long value) {
+        acc ^= round(0, value);
+        return acc * P1 + P4;
+    }
+
+    private static long avalanche(long h) {
+        h ^= h >>> 33;
+        h *= P2;
+        h ^= h >>> 29;
+        h *= P3;
+        h ^= h >>> 32;
+        return h;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.consistenthash.client;
+
+import com.example.consistenthash.model.Node;
+import com.example.consistenthash.service.ConsistentHash;
+import com.example.consistenthash.service.hash.Murmur3HashFunction;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RingClientTest {
+
+    private ConsistentHash consistentHash;
+
+    @BeforeEach
+    void setUp() {
+        consistentHash = new ConsistentHash(150, Murmur3HashFunction.INSTANCE);
+        for (int i = 1; i <= 5; i++) {
+            consistentHash.addNode(new Node("server" + i, "10.0.0." + i, 6379, i == 5 ? 2 : 1));
+        }
+    }
+
+    @Test
+    @DisplayName("내보낸 스냅샷으로 서버와 같은 담당 노드 조회")
+    void testLookupMatchesServer() {
+        // When
+        RingClient client = RingClient.load(consistentHash.exportSnapshot());
+
+        // Then
+        assertThat(client.getEpoch()).isEqualTo(consistentHash.getEpoch());
+        assertThat(client.getHashFunction()).isSameAs(Murmur3HashFunction.INSTANCE);
+        assertThat(client.getNodeCount()).isEqualTo(5);
+        assertThat(client.getTokenCount()).isEqualTo(6 * 150);
+
+        for (int i = 0; i < 10000; i++) {
+            Node expected = consistentHash.getNode("key_" + i);
+            Node actual = client.getNode("key_" + i);
+            assertThat(actual).isEqualTo(expected);
+            assertThat(actual.getWeight()).isEqualTo(expected.getWeight());
+        }
+    }
+
+    @Test
+    @DisplayName("메모리 매핑 로드")
+    void testMemoryMappedLoad() throws IOException {
+        // Given
+        Path file = Files.createTempFile("ring", ".snapshot");
+        try {
+            Files.write(file, consistentHash.exportSnapshot());
+
+            // When
+            RingClient client = RingClient.map(file);
+
+            // Then
+            for (int i = 0; i < 1000; i++) {
+                assertThat(client.getNode("key_" + i)).isEqualTo(consistentHash.getNode("key_" + i));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("빈 링 및 잘못된 데이터 처리")
+    void testEmptyAndInvalidSnapshot() {
+        consistentHash.clear();
+        RingClient empty = RingClient.load(consistentHash.exportSnapshot());
+        assertThat(empty.getNode("any_key")).isNull();
+        assertThat(empty.getNodeCount()).isZero();
+
+        assertThatThrownBy(() -> RingClient.load(new byte[]{1, 2, 3, 4, 5, 6}))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        byte[] truncated = new byte[20];
+        System.arraycopy(consistentHash.exportSnapshot(), 0, truncated, 0, 20);
+        assertThatThrownBy(() -> RingClient.load(truncated))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
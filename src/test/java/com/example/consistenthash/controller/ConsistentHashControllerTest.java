@@ -0,0 +1,97 @@
+package com.example.consistenthash.controller;
+
+import com.example.consistenthash.model.Node;
+import com.example.consistenthash.service.ConsistentHash;
+import com.example.consistenthash.service.hash.Murmur3HashFunction;
+import org.junit.jupiter.api.*;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConsistentHashControllerTest {
+
+    private ConsistentHash consistentHash;
+    private RingDeltaBroadcaster deltaBroadcaster;
+    private ConsistentHashController controller;
+
+    @BeforeEach
+    void setUp() {
+        consistentHash = new ConsistentHash(ConsistentHash.DEFAULT_VIRTUAL_NODES, Murmur3HashFunction.INSTANCE);
+        consistentHash.addNode(new Node("server1", "10.0.0.1", 8080));
+        consistentHash.addNode(new Node("server2", "10.0.0.2", 8080));
+        consistentHash.addNode(new Node("server3", "10.0.0.3", 8080));
+        deltaBroadcaster = new RingDeltaBroadcaster(consistentHash);
+        controller = new ConsistentHashController(consistentHash, deltaBroadcaster);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deltaBroadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("스트리밍 조회는 줄마다 키와 담당 노드를 기록")
+    void testStreamNodesForKeys() throws IOException {
+        // Given: 빈 줄, CRLF, 마지막 개행 없는 줄을 포함한 요청
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        controller.streamNodesForKeys(body("user:1\nuser:2\r\n\nuser:3"), response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        String[] lines = response.getContentAsString().split("\n");
+        assertThat(lines).hasSize(3);
+        for (int i = 0; i < lines.length; i++) {
+            String key = "user:" + (i + 1);
+            Node node = consistentHash.getNode(key);
+            assertThat(lines[i]).isEqualTo(key + "\t" + node.getId() + "\t" + node.getHost() + ":" + node.getPort());
+        }
+    }
+
+    @Test
+    @DisplayName("응답 전에 길이를 초과한 키는 400과 오류 줄로 응답")
+    void testStreamNodesForKeysRejectsOversizedKey() throws IOException {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When: 두 번째 키가 최대 길이 초과
+        controller.streamNodesForKeys(body("user:1\n" + "k".repeat(10_000) + "\nuser:3\n"), response);
+
+        // Then: 앞서 조회한 결과는 버리고 오류 줄만 응답
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).startsWith("\tERROR\t2번째 키가");
+        assertThat(response.getContentAsString().split("\n")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("응답을 내보낸 뒤 길이를 초과한 키는 오류 줄을 기록하고 중단")
+    void testStreamNodesForKeysReportsOversizedKeyInBand() throws IOException {
+        // Given: 응답이 커밋될 만큼 많은 키 뒤에 너무 긴 키
+        StringBuilder request = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            request.append("user:").append(i).append('\n');
+        }
+        request.append("k".repeat(10_000)).append("\nuser:after\n");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        controller.streamNodesForKeys(body(request.toString()), response);
+
+        // Then: 그때까지의 결과 뒤에 오류 줄이 오고 이후 키는 조회하지 않음
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        String[] lines = response.getContentAsString().split("\n");
+        assertThat(lines).hasSize(5001);
+        assertThat(lines[4999]).startsWith("user:4999\t");
+        assertThat(lines[5000]).startsWith("\tERROR\t5001번째 키가");
+    }
+
+    private static ByteArrayInputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.consistenthash.dto;
 
+import com.example.consistenthash.dto.request.NodeBatchRequestDto;
 import com.example.consistenthash.dto.request.NodeRequestDto;
 import com.example.consistenthash.dto.request.DistributionRequestDto;
 import com.example.consistenthash.dto.response.*;
+import com.example.consistenthash.model.Node;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
@@ -117,6 +119,57 @@ class ConsistentHashDtoTest {
             assertThat(violations.iterator().next().getMessage())
                     .isEqualTo("포트는 양수여야 합니다");
         }
+
+        @Test
+        @DisplayName("가중치 기본값 및 검증 실패 테스트")
+        void validateWeightConstraints() {
+            // Given & When
+            NodeRequestDto defaultWeight = new NodeRequestDto("server1");
+            NodeRequestDto zeroWeight = new NodeRequestDto("server1", "localhost", 8080, 0);
+
+            // Then
+            assertThat(defaultWeight.getWeight()).isEqualTo(1);
+            assertThat(validator.validate(defaultWeight)).isEmpty();
+
+            Set<ConstraintViolation<NodeRequestDto>> violations = validator.validate(zeroWeight);
+            assertThat(violations).hasSize(1);
+            assertThat(violations.iterator().next().getMessage())
+                    .isEqualTo("가중치는 양수여야 합니다");
+
+            NodeRequestDto maxWeight = new NodeRequestDto("server1", "localhost", 8080, Node.MAX_WEIGHT);
+            NodeRequestDto overWeight = new NodeRequestDto("server1", "localhost", 8080, Node.MAX_WEIGHT + 1);
+            assertThat(validator.validate(maxWeight)).isEmpty();
+            violations = validator.validate(overWeight);
+            assertThat(violations).hasSize(1);
+            assertThat(violations.iterator().next().getMessage())
+                    .isEqualTo("가중치는 " + Node.MAX_WEIGHT + " 이하여야 합니다");
+        }
+    }
+
+    @Nested
+    @DisplayName("NodeBatchRequestDto 테스트")
+    class NodeBatchRequestDtoTest {
+
+        @Test
+        @DisplayName("추가 노드와 제거 노드 ID 검증 테스트")
+        void validateBatchConstraints() {
+            // Given & When
+            NodeBatchRequestDto valid = new NodeBatchRequestDto(
+                    List.of(new NodeRequestDto("server3"), new NodeRequestDto("server4")), List.of("server1"));
+            NodeBatchRequestDto invalidNode = new NodeBatchRequestDto(
+                    List.of(new NodeRequestDto("server3", "localhost", 8080, 0)), List.of());
+            NodeBatchRequestDto blankRemoval = new NodeBatchRequestDto(List.of(), List.of(" "));
+
+            // Then: 추가 노드는 NodeRequestDto 규칙으로 검증
+            assertThat(validator.validate(valid)).isEmpty();
+            assertThat(validator.validate(new NodeBatchRequestDto(null, null))).isEmpty();
+            assertThat(validator.validate(invalidNode))
+                    .extracting(ConstraintViolation::getMessage)
+                    .containsExactly("가중치는 양수여야 합니다");
+            assertThat(validator.validate(blankRemoval))
+                    .extracting(ConstraintViolation::getMessage)
+                    .containsExactly("노드 ID는 필수입니다");
+        }
     }
 
     @Nested
@@ -267,6 +320,26 @@ class ConsistentHashDtoTest {
             assertThat(notFound.isFound()).isFalse();
         }
 
+        @Test
+        @DisplayName("BatchLookupResponseDto 노드별 그룹 테스트")
+        void testBatchLookupResponseDto() {
+            // Given
+            List<BatchLookupResponseDto.NodeKeyGroup> groups = new ArrayList<>();
+            groups.add(new BatchLookupResponseDto.NodeKeyGroup("server1", "192.168.1.1:8080", List.of("a", "b")));
+            groups.add(new BatchLookupResponseDto.NodeKeyGroup("server2", "192.168.1.2:8080", List.of("c")));
+
+            // When
+            BatchLookupResponseDto response = new BatchLookupResponseDto(3, groups);
+            groups.clear(); // 원본 변경이 응답에 영향을 주지 않아야 함
+
+            // Then
+            assertThat(response.getTotalKeyCount()).isEqualTo(3);
+            assertThat(response.getNodeCount()).isEqualTo(2);
+            assertThat(response.getGroups()).hasSize(2);
+            assertThat(response.getGroups().get(0).getKeyCount()).isEqualTo(2);
+            assertThat(response.getGroups().get(1).getNodeAddress()).isEqualTo("192.168.1.2:8080");
+        }
+
         @Test
         @DisplayName("RingInfoResponseDto 계산 필드 테스트")
         void testRingInfoResponseDtoCalculations() {
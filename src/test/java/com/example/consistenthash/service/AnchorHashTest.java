@@ -0,0 +1,168 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+import com.example.consistenthash.service.hash.Murmur3HashFunction;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AnchorHashTest {
+
+    private AnchorHash anchor;
+
+    @BeforeEach
+    void setUp() {
+        anchor = new AnchorHash(Murmur3HashFunction.INSTANCE, 1024);
+    }
+
+    @Test
+    @DisplayName("AnchorHash 데이터 분산 균등성 테스트")
+    void testDataDistribution() {
+        // Given
+        for (int i = 1; i <= 10; i++) {
+            anchor.addNode(new Node("server" + i));
+        }
+
+        // When
+        Map<String, Integer> distribution = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            distribution.merge(anchor.getNode("key_" + i).getId(), 1, Integer::sum);
+        }
+
+        // Then: 각 노드 10% ± 1%
+        assertThat(distribution).hasSize(10);
+        distribution.values().forEach(count -> assertThat(count).isBetween(9000, 11000));
+    }
+
+    @Test
+    @DisplayName("노드 제거 시 해당 노드의 키만 이동하고, 복구 시 원래 배치로 돌아옴")
+    void testRemoveAndRestore() {
+        // Given
+        for (int i = 1; i <= 10; i++) {
+            anchor.addNode(new Node("server" + i));
+        }
+        Map<String, String> before = new HashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            before.put("key_" + i, anchor.getNode("key_" + i).getId());
+        }
+
+        // When: 중간 노드 두 개 제거
+        anchor.removeNode("server3");
+        anchor.removeNode("server7");
+
+        // Then: 제거된 노드의 키만 이동
+        for (Map.Entry<String, String> entry : before.entrySet()) {
+            String after = anchor.getNode(entry.getKey()).getId();
+            if (entry.getValue().equals("server3") || entry.getValue().equals("server7")) {
+                assertThat(after).isNotIn("server3", "server7");
+            } else {
+                assertThat(after).isEqualTo(entry.getValue());
+            }
+        }
+
+        // When: 제거의 역순으로 복구
+        anchor.addNode(new Node("server7"));
+        anchor.addNode(new Node("server3"));
+
+        // Then: 모든 키가 원래 노드로 돌아옴
+        for (Map.Entry<String, String> entry : before.entrySet()) {
+            assertThat(anchor.getNode(entry.getKey()).getId()).isEqualTo(entry.getValue());
+        }
+        assertThat(anchor.getNodeCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("용량 초과 및 빈 상태 처리")
+    void testCapacityAndEmpty() {
+        AnchorHash small = new AnchorHash(Murmur3HashFunction.INSTANCE, 2);
+        assertThat(small.getNode("any_key")).isNull();
+
+        small.addNode(new Node("server1"));
+        small.addNode(new Node("server2"));
+        assertThatThrownBy(() -> small.addNode(new Node("server3")))
+                .isInstanceOf(IllegalStateException.class);
+
+        small.clear();
+        assertThat(small.getNodeCount()).isZero();
+        assertThat(small.getNode("any_key")).isNull();
+    }
+
+    @Test
+    @DisplayName("일괄 변경이 용량을 넘으면 아무것도 적용하지 않음")
+    void testFailingBatchLeavesNodesUnchanged() {
+        // Given
+        AnchorHash small = new AnchorHash(Murmur3HashFunction.INSTANCE, 3);
+        small.addNode(new Node("server1"));
+        small.addNode(new Node("server2"));
+
+        // When: 하나를 제거해도 추가 후 4개가 되어 용량 초과
+        assertThatThrownBy(() -> small.replaceNodes(List.of("server1"),
+                List.of(new Node("server3"), new Node("server4"), new Node("server5"))))
+                .isInstanceOf(IllegalStateException.class);
+
+        // Then: 앞선 제거도 적용되지 않음
+        assertThat(small.getNodeCount()).isEqualTo(2);
+        assertThat(small.getNode("any_key")).isNotNull();
+
+        // When: 제거한 만큼의 빈 버킷을 채우는 일괄 변경은 성공 (중복 추가는 무시)
+        small.replaceNodes(List.of("server1"),
+                List.of(new Node("server3"), new Node("server4"), new Node("server4")));
+
+        // Then
+        assertThat(small.getNodeCount()).isEqualTo(3);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(small.getNode("key_" + i).getId()).isIn("server2", "server3", "server4");
+        }
+    }
+
+    @Test
+    @DisplayName("노드 추가/제거 중 낙관적 조회가 예외 없이 동작")
+    void testConcurrentLookupDuringChurn() throws InterruptedException {
+        // Given: 변경 중에도 남아 있는 노드
+        Set<String> stableNodes = new HashSet<>();
+        for (int i = 1; i <= 4; i++) {
+            anchor.addNode(new Node("server" + i));
+            stableNodes.add("server" + i);
+        }
+
+        // When: 조회 스레드가 도는 동안 노드를 계속 추가/제거 (제거된 버킷의 A 값이 0으로 바뀌는 경합)
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Throwable> exceptions = Collections.synchronizedList(new ArrayList<>());
+        for (int t = 0; t < 3; t++) {
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; running.get(); i = (i + 1) % 10000) {
+                        if (anchor.getNode("key_" + i) == null) {
+                            throw new AssertionError("변경 중 담당 노드를 찾지 못함");
+                        }
+                    }
+                } catch (Throwable e) {
+                    exceptions.add(e);
+                }
+            });
+        }
+        for (int round = 0; round < 20000; round++) {
+            anchor.addNode(new Node("churn" + (round % 50)));
+            anchor.removeNode("churn" + ((round + 25) % 50));
+        }
+        for (int i = 0; i < 50; i++) {
+            anchor.removeNode("churn" + i);
+        }
+        running.set(false);
+        executor.shutdown();
+
+        // Then
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(exceptions).isEmpty();
+        for (int i = 0; i < 10000; i++) {
+            assertThat(stableNodes).contains(anchor.getNode("key_" + i).getId());
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package com.example.consistenthash.service;
 
 import com.example.consistenthash.model.Node;
+import com.example.consistenthash.service.hash.HashFunction;
+import com.example.consistenthash.service.hash.Murmur3HashFunction;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
@@ -333,7 +338,7 @@ class ConsistentHashTest {
         assertThat(consistentHash.getNodeCount()).isEqualTo(1);
 
         // null 키 조회 (예외 처리 확인)
-        assertThatThrownBy(() -> consistentHash.getNode(null))
+        assertThatThrownBy(() -> consistentHash.getNode((String) null))
                 .isInstanceOf(Exception.class);
 
         System.out.println("✅ 엣지 케이스 테스트 통과");
@@ -359,4 +364,864 @@ class ConsistentHashTest {
         System.out.println("링 정보: " + ringInfo);
         System.out.println("✅ 링 정보 조회 테스트 통과");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("링 스냅샷 불변성 테스트")
+    void testSnapshotImmutability() {
+        // Given
+        for (int i = 1; i <= 3; i++) {
+            consistentHash.addNode(new Node("snapshot_server_" + i));
+        }
+        RingSnapshot before = consistentHash.getSnapshot();
+
+        // When: 스냅샷을 잡은 뒤 링 변경
+        consistentHash.addNode(new Node("snapshot_server_4"));
+        consistentHash.removeNode("snapshot_server_1");
+
+        // Then: 이전 스냅샷은 변경 전 토폴로지를 그대로 유지
+        assertThat(before.nodeCount()).isEqualTo(3);
+        assertThat(before.size()).isEqualTo(450);
+        assertThat(consistentHash.getSnapshot()).isNotSameAs(before);
+        assertThat(consistentHash.getSnapshot().size()).isEqualTo(450);
+
+        System.out.println("✅ 링 스냅샷 불변성 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("String, CharSequence, byte[], ByteBuffer 키 조회 결과 일치 테스트")
+    void testKeyTypeOverloads() {
+        // Given
+        for (int i = 1; i <= 5; i++) {
+            consistentHash.addNode(new Node("overload_server_" + i));
+        }
+
+        for (int i = 0; i < 500; i++) {
+            String key = "키_" + i;
+            byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+            // When
+            Node expected = consistentHash.getNode(key);
+
+            // Then
+            assertThat(consistentHash.getNode(new StringBuilder(key))).isEqualTo(expected);
+            assertThat(consistentHash.getNode(bytes)).isEqualTo(expected);
+            assertThat(consistentHash.getNode(ByteBuffer.wrap(bytes))).isEqualTo(expected);
+            assertThat(consistentHash.getNode(direct)).isEqualTo(expected);
+        }
+
+        System.out.println("✅ 키 타입별 조회 일치 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("배치 조회 결과가 개별 조회와 일치하는지 테스트")
+    void testBatchLookup() {
+        // Given
+        for (int i = 1; i <= 10; i++) {
+            consistentHash.addNode(new Node("batch_server_" + i));
+        }
+        List<String> smallBatch = List.of("user:1", "user:2", "user:3");
+        List<String> largeBatch = IntStream.range(0, 5000)
+                .mapToObj(i -> "batch_key_" + i)
+                .toList();
+
+        // When
+        Map<String, Node> small = consistentHash.getNodes(smallBatch);
+        Map<String, Node> large = consistentHash.getNodes(largeBatch);
+        Map<Node, List<String>> grouped = consistentHash.routeBatch(largeBatch);
+
+        // Then: 정렬 병합 경로와 개별 이진 탐색 경로 모두 getNode와 같아야 함
+        smallBatch.forEach(key -> assertThat(small.get(key)).isEqualTo(consistentHash.getNode(key)));
+        assertThat(new ArrayList<>(large.keySet())).isEqualTo(largeBatch);
+        largeBatch.forEach(key -> assertThat(large.get(key)).isEqualTo(consistentHash.getNode(key)));
+
+        int groupedKeys = 0;
+        for (Map.Entry<Node, List<String>> entry : grouped.entrySet()) {
+            for (String key : entry.getValue()) {
+                assertThat(consistentHash.getNode(key)).isEqualTo(entry.getKey());
+            }
+            groupedKeys += entry.getValue().size();
+        }
+        assertThat(groupedKeys).isEqualTo(largeBatch.size());
+        assertThat(grouped).hasSize(10);
+
+        // 빈 링은 빈 결과
+        consistentHash.clear();
+        assertThat(consistentHash.getNodes(largeBatch)).isEmpty();
+        assertThat(consistentHash.routeBatch(largeBatch)).isEmpty();
+
+        System.out.println("✅ 배치 조회 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("복제본 노드 조회 테스트")
+    void testReplicaLookup() {
+        // Given
+        for (int i = 1; i <= 5; i++) {
+            consistentHash.addNode(new Node("replica_server_" + i));
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            String key = "replica_key_" + i;
+
+            // When
+            List<Node> replicas = consistentHash.getReplicas(key, 3);
+
+            // Then: 서로 다른 3개 노드, 첫 번째는 담당 노드
+            assertThat(replicas).hasSize(3);
+            assertThat(new HashSet<>(replicas)).hasSize(3);
+            assertThat(replicas.get(0)).isEqualTo(consistentHash.getNode(key));
+
+            // 더 많은 복제본을 요청해도 앞부분 순서는 같아야 함
+            List<Node> all = consistentHash.getReplicas(key, 10);
+            assertThat(all).hasSize(5);
+            assertThat(all.subList(0, 3)).isEqualTo(replicas);
+        }
+
+        // 노드 제거 후에는 제거된 노드가 복제본에 포함되지 않음
+        consistentHash.removeNode("replica_server_3");
+        for (int i = 0; i < 200; i++) {
+            List<Node> replicas = consistentHash.getReplicas("replica_key_" + i, 3);
+            assertThat(replicas).doesNotContain(new Node("replica_server_3"));
+        }
+
+        assertThatThrownBy(() -> consistentHash.getReplicas("key", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        System.out.println("✅ 복제본 노드 조회 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("부하 제한 모드 노드 용량 테스트")
+    void testBoundedLoad() {
+        // Given: ε = 0.25 (용량 = 평균의 1.25배)
+        for (int i = 1; i <= 10; i++) {
+            consistentHash.addNode(new Node("bounded_server_" + i));
+        }
+        consistentHash.setLoadBalancingFactor(0.25);
+
+        // When: 10,000개 할당
+        List<Node> assigned = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            assigned.add(consistentHash.acquireNode("bounded_key_" + i));
+        }
+
+        // Then: 어떤 노드도 용량(1,250)을 넘지 않음
+        for (int i = 1; i <= 10; i++) {
+            long load = consistentHash.getLoad("bounded_server_" + i);
+            System.out.printf("  bounded_server_%d: %d%n", i, load);
+            assertThat(load).isLessThanOrEqualTo(1250L);
+        }
+
+        // 반납하면 부하가 0으로 돌아옴
+        assigned.forEach(node -> consistentHash.releaseNode(node.getId()));
+        for (int i = 1; i <= 10; i++) {
+            assertThat(consistentHash.getLoad("bounded_server_" + i)).isEqualTo(0L);
+        }
+
+        System.out.println("✅ 부하 제한 모드 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("제거 후 다시 추가된 노드에 늦게 반납된 할당이 반영되지 않는 테스트")
+    void testStaleReleaseAfterRejoin() {
+        // Given
+        consistentHash.addNode(new Node("lease_server"));
+        consistentHash.setLoadBalancingFactor(0.25);
+        NodeLease stale = consistentHash.acquire("lease_key");
+        Node legacy = consistentHash.acquireNode("legacy_key");
+        assertThat(stale.getNode().getId()).isEqualTo("lease_server");
+        assertThat(consistentHash.getLoad("lease_server")).isEqualTo(2L);
+
+        // When: 노드를 제거했다가 같은 ID로 다시 추가한 뒤 새 할당 하나
+        consistentHash.removeNode("lease_server");
+        consistentHash.addNode(new Node("lease_server"));
+        NodeLease fresh = consistentHash.acquire("lease_key");
+
+        // Then: 이전 멤버십의 할당 반납은 새 노드의 부하를 줄이지 않음 (두 번 반납해도 한 번만 반영)
+        stale.release();
+        stale.release();
+        assertThat(consistentHash.getLoad("lease_server")).isEqualTo(1L);
+
+        // ID로 반납하면 구분할 수 없지만 0 아래로는 내려가지 않음
+        consistentHash.releaseNode(legacy.getId());
+        consistentHash.releaseNode(legacy.getId());
+        assertThat(consistentHash.getLoad("lease_server")).isZero();
+
+        fresh.release();
+        assertThat(fresh.isReleased()).isTrue();
+        assertThat(consistentHash.getLoad("lease_server")).isZero();
+
+        System.out.println("✅ 늦은 반납 처리 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("가중치 노드 분포 및 가중치 변경 시 차이분만 이동 테스트")
+    void testWeightedNodes() {
+        // Given: 가중치 1, 1, 2
+        consistentHash.addNode(new Node("small_1", "localhost", 8081, 1));
+        consistentHash.addNode(new Node("small_2", "localhost", 8082, 1));
+        consistentHash.addNode(new Node("large", "localhost", 8083, 2));
+        assertThat(consistentHash.getRingInfo().get("가상노드수")).isEqualTo(4 * 150);
+
+        Map<String, String> before = new HashMap<>();
+        Map<String, Integer> distribution = new HashMap<>();
+        for (int i = 0; i < 40000; i++) {
+            String nodeId = consistentHash.getNode("weighted_key_" + i).getId();
+            before.put("weighted_key_" + i, nodeId);
+            distribution.merge(nodeId, 1, Integer::sum);
+        }
+
+        // Then: 가중치 2 노드가 약 절반을 담당
+        assertThat(distribution.get("large")).isBetween(18000, 22000);
+
+        // When: 가중치 증가 (2 → 4)
+        assertThat(consistentHash.updateWeight("large", 4)).isTrue();
+
+        // Then: 키는 large 쪽으로만 이동하고, 반환되는 노드는 새 가중치를 가짐
+        Map<String, String> grown = new HashMap<>();
+        for (Map.Entry<String, String> entry : before.entrySet()) {
+            Node after = consistentHash.getNode(entry.getKey());
+            grown.put(entry.getKey(), after.getId());
+            if (!after.getId().equals(entry.getValue())) {
+                assertThat(after.getId()).isEqualTo("large");
+            }
+            if (after.getId().equals("large")) {
+                assertThat(after.getWeight()).isEqualTo(4);
+            }
+        }
+        assertThat(consistentHash.getRingInfo().get("가상노드수")).isEqualTo(6 * 150);
+        assertThat(consistentHash.getNodeCount()).isEqualTo(3);
+
+        // When: 가중치 감소 (4 → 1)
+        consistentHash.updateWeight("large", 1);
+
+        // Then: 키는 large에서만 빠져나감
+        for (Map.Entry<String, String> entry : grown.entrySet()) {
+            String after = consistentHash.getNode(entry.getKey()).getId();
+            if (!after.equals(entry.getValue())) {
+                assertThat(entry.getValue()).isEqualTo("large");
+            }
+        }
+
+        assertThat(consistentHash.updateWeight("missing", 2)).isFalse();
+        assertThatThrownBy(() -> consistentHash.updateWeight("large", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 가중치 상한 초과는 가상 노드를 만들기 전에 거부하고 링은 그대로 유지
+        int ringSize = consistentHash.getSnapshot().size();
+        assertThatThrownBy(() -> consistentHash.updateWeight("large", Node.MAX_WEIGHT + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> consistentHash.addNode(new Node("huge", "localhost", 8080, Integer.MAX_VALUE)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> consistentHash.replaceNodes(List.of("small_1"),
+                List.of(new Node("huge", "localhost", 8080, Node.MAX_WEIGHT + 1))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(consistentHash.getSnapshot().size()).isEqualTo(ringSize);
+        assertThat(consistentHash.getNodeCount()).isEqualTo(3);
+
+        System.out.println("✅ 가중치 노드 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("균형 토큰 배치 - 적은 가상 노드로 균등 분포 테스트")
+    void testBalancedTokenAllocation() {
+        // Given: 노드당 가상 노드 16개, 마지막 노드는 가중치 2
+        ConsistentHash balanced = new ConsistentHash(16, Murmur3HashFunction.INSTANCE, TokenAllocation.BALANCED);
+        for (int i = 1; i <= 19; i++) {
+            balanced.addNode(new Node("balanced_server_" + i));
+        }
+
+        Map<String, String> before = new HashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            before.put("balanced_key_" + i, balanced.getNode("balanced_key_" + i).getId());
+        }
+        balanced.addNode(new Node("balanced_heavy", "localhost", 8080, 2));
+
+        // When
+        Map<String, Integer> distribution = new HashMap<>();
+        for (int i = 0; i < 210000; i++) {
+            distribution.merge(balanced.getNode("balanced_key_" + i).getId(), 1, Integer::sum);
+        }
+
+        // Then: 가중치 1 노드는 평균(10,000) 대비 ±10%, 가중치 2 노드는 약 2배
+        distribution.forEach((nodeId, count) -> {
+            if (nodeId.equals("balanced_heavy")) {
+                assertThat(count).isBetween(18000, 22000);
+            } else {
+                assertThat(count).isBetween(9000, 11000);
+            }
+        });
+
+        // 새 노드 합류 시 키는 새 노드로만 이동
+        before.forEach((key, nodeId) -> {
+            String after = balanced.getNode(key).getId();
+            if (!after.equals(nodeId)) {
+                assertThat(after).isEqualTo("balanced_heavy");
+            }
+        });
+        assertThat(balanced.getRingInfo().get("가상노드수")).isEqualTo(21 * 16);
+
+        System.out.println("✅ 균형 토큰 배치 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("토큰 구간 기반 정확한 점유율 계산 테스트")
+    void testExactOwnership() {
+        // Given: 단일 노드는 키 공간 전체를 소유
+        consistentHash.addNode(new Node("owner_server_1"));
+        assertThat(consistentHash.getOwnership().get("owner_server_1")).isCloseTo(1.0, within(1e-12));
+
+        for (int i = 2; i <= 5; i++) {
+            consistentHash.addNode(new Node("owner_server_" + i));
+        }
+
+        // When
+        Map<String, Double> ownership = consistentHash.getOwnership();
+        Map<String, Integer> sampled = new HashMap<>();
+        int keyCount = 200000;
+        for (int i = 0; i < keyCount; i++) {
+            sampled.merge(consistentHash.getNode("owner_key_" + i).getId(), 1, Integer::sum);
+        }
+
+        // Then: 점유율 합계는 1이며, 샘플 키 비율과 ±1% 이내로 일치
+        assertThat(ownership).hasSize(5);
+        assertThat(ownership.values().stream().mapToDouble(Double::doubleValue).sum()).isCloseTo(1.0, within(1e-9));
+        ownership.forEach((nodeId, share) ->
+                assertThat(sampled.get(nodeId) / (double) keyCount).isCloseTo(share, within(0.01)));
+
+        // 링 정보의 데이터분포는 점유율을 1000개 기준으로 환산한 값
+        @SuppressWarnings("unchecked")
+        Map<String, Integer> distribution = (Map<String, Integer>) consistentHash.getRingInfo().get("데이터분포");
+        ownership.forEach((nodeId, share) ->
+                assertThat(distribution.get(nodeId)).isEqualTo((int) Math.round(share * 1000)));
+
+        // 노드 제거 후에도 다시 합계 1
+        consistentHash.removeNode("owner_server_3");
+        assertThat(consistentHash.getOwnership()).doesNotContainKey("owner_server_3");
+        assertThat(consistentHash.getOwnership().values().stream().mapToDouble(Double::doubleValue).sum())
+                .isCloseTo(1.0, within(1e-9));
+
+        System.out.println("✅ 정확한 점유율 계산 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("충돌로 토큰을 모두 빼앗긴 노드도 링 정보에 점유율 0으로 포함되는 테스트")
+    void testRingInfoIncludesNodesWithoutTokens() {
+        // Given: 모든 토큰이 0 하나로 충돌하는 해시 함수 (한 노드만 토큰을 소유)
+        ConsistentHash collided = new ConsistentHash(ConsistentHash.DEFAULT_VIRTUAL_NODES, narrowHashFunction(0));
+        collided.addNode(new Node("collided_server_1"));
+        collided.addNode(new Node("collided_server_2"));
+
+        // When
+        Map<String, Object> info = collided.getRingInfo();
+        @SuppressWarnings("unchecked")
+        Map<String, Double> ownership = (Map<String, Double>) info.get("점유율");
+        @SuppressWarnings("unchecked")
+        List<String> nodeList = (List<String>) info.get("노드목록");
+
+        // Then: 두 노드 모두 멤버로 보고되고, 토큰이 없는 노드의 점유율은 0
+        assertThat(info.get("물리노드수")).isEqualTo(2);
+        assertThat(info.get("가상노드수")).isEqualTo(1);
+        assertThat(nodeList).containsExactlyInAnyOrder("collided_server_1", "collided_server_2");
+        assertThat(ownership.values()).containsExactlyInAnyOrder(1.0, 0.0);
+        assertThat(collided.getOwnership()).isEqualTo(ownership);
+
+        // 소유 노드를 제거하면 남은 노드가 승계
+        String owner = collided.getNode("any_key").getId();
+        collided.removeNode(owner);
+        assertThat(collided.getOwnership()).hasSize(1).doesNotContainKey(owner);
+        assertThat(collided.getOwnership().values()).containsExactly(1.0);
+
+        System.out.println("✅ 토큰 없는 노드 링 정보 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("멤버십 변경 시 링 변경 번호 증가 테스트")
+    void testRingEpoch() {
+        // Given
+        long initial = consistentHash.getEpoch();
+
+        // When & Then: 실제 변경마다 1씩 증가
+        consistentHash.addNode(new Node("epoch_server_1"));
+        consistentHash.addNode(new Node("epoch_server_2"));
+        assertThat(consistentHash.getEpoch()).isEqualTo(initial + 2);
+
+        consistentHash.addNode(new Node("epoch_server_1")); // 이미 존재하는 노드
+        consistentHash.removeNode("missing_server"); // 존재하지 않는 노드
+        assertThat(consistentHash.getEpoch()).isEqualTo(initial + 2);
+
+        consistentHash.updateWeight("epoch_server_1", 2);
+        consistentHash.removeNode("epoch_server_2");
+        assertThat(consistentHash.getEpoch()).isEqualTo(initial + 4);
+        assertThat(consistentHash.getSnapshot().getEpoch()).isEqualTo(consistentHash.getEpoch());
+
+        // 초기화해도 번호는 되돌아가지 않음
+        consistentHash.clear();
+        assertThat(consistentHash.getEpoch()).isEqualTo(initial + 5);
+
+        System.out.println("✅ 링 변경 번호 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("멤버십 변경분을 순서대로 적용하면 링과 일치하는지 테스트")
+    void testRingDeltaReplay() {
+        // Given: 변경분만으로 유지하는 복제 링
+        List<RingDelta> deltas = new ArrayList<>();
+        consistentHash.addDeltaListener(deltas::add);
+        long initial = consistentHash.getEpoch();
+
+        // When
+        consistentHash.addNode(new Node("delta_server_1"));
+        consistentHash.addNode(new Node("delta_server_2"));
+        consistentHash.addNode(new Node("delta_server_3"));
+        consistentHash.updateWeight("delta_server_2", 3);
+        consistentHash.removeNode("delta_server_1");
+        consistentHash.updateWeight("delta_server_2", 1);
+        consistentHash.removeNode("missing_server"); // 변경 없음
+
+        // Then: 번호가 1씩 증가하는 변경분만 전달됨
+        assertThat(deltas).hasSize(6);
+        for (int i = 0; i < deltas.size(); i++) {
+            assertThat(deltas.get(i).getEpoch()).isEqualTo(initial + i + 1);
+        }
+        assertThat(deltas.get(0).getType()).isEqualTo(RingDelta.Type.NODE_ADDED);
+        assertThat(deltas.get(3).getType()).isEqualTo(RingDelta.Type.WEIGHT_CHANGED);
+        assertThat(deltas.get(4).getType()).isEqualTo(RingDelta.Type.NODE_REMOVED);
+
+        TreeMap<Long, String> replica = new TreeMap<>();
+        for (RingDelta delta : deltas) {
+            for (long token : delta.getRemovedTokens()) {
+                replica.remove(token);
+            }
+            for (long token : delta.getAddedTokens()) {
+                replica.put(token, delta.getNode().getId());
+            }
+        }
+
+        RingSnapshot snapshot = consistentHash.getSnapshot();
+        assertThat(replica).hasSize(snapshot.size());
+        int i = 0;
+        for (Map.Entry<Long, String> entry : replica.entrySet()) {
+            assertThat(entry.getKey()).isEqualTo(snapshot.tokenAt(i));
+            assertThat(entry.getValue()).isEqualTo(snapshot.ownerAt(i).getId());
+            i++;
+        }
+
+        // 초기화는 모든 토큰 제거로 전달됨
+        consistentHash.clear();
+        assertThat(deltas.get(deltas.size() - 1).getType()).isEqualTo(RingDelta.Type.CLEARED);
+        assertThat(deltas.get(deltas.size() - 1).getEpoch()).isEqualTo(consistentHash.getEpoch());
+
+        System.out.println("✅ 링 변경분 재생 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("멤버십 변경 시 이동 구간 계산 및 미리보기 테스트")
+    void testMovedRangeDiff() {
+        // Given
+        for (int i = 1; i <= 5; i++) {
+            consistentHash.addNode(new Node("diff_server_" + i));
+        }
+        Node newNode = new Node("diff_server_6");
+
+        // When: 미리보기 후 실제 추가
+        List<MovedRange> preview = consistentHash.previewAddNode(newNode);
+        RingSnapshot before = consistentHash.getSnapshot();
+        consistentHash.addNode(newNode);
+        RingSnapshot after = consistentHash.getSnapshot();
+        List<MovedRange> ranges = consistentHash.diff(before, after);
+
+        // Then: 미리보기는 실제 결과와 같고, 모든 구간이 새 노드로 이동
+        assertThat(preview).hasSameSizeAs(ranges);
+        for (int i = 0; i < ranges.size(); i++) {
+            assertThat(preview.get(i).getStartToken()).isEqualTo(ranges.get(i).getStartToken());
+            assertThat(preview.get(i).getEndToken()).isEqualTo(ranges.get(i).getEndToken());
+        }
+        assertThat(ranges).allMatch(range -> range.getToNode().getId().equals("diff_server_6"));
+        double movedShare = ranges.stream().mapToDouble(MovedRange::getShare).sum();
+        assertThat(movedShare).isCloseTo(consistentHash.getOwnership().get("diff_server_6"), within(1e-9));
+
+        // 담당 노드가 바뀐 키는 정확히 이동 구간에 속한 키
+        for (int i = 0; i < 20000; i++) {
+            String key = "diff_key_" + i;
+            long hash = consistentHash.getHashFunction().hash(key);
+            Node oldOwner = before.getNode(hash);
+            Node newOwner = after.getNode(hash);
+            MovedRange range = ranges.stream().filter(r -> r.contains(hash)).findFirst().orElse(null);
+
+            if (oldOwner.getId().equals(newOwner.getId())) {
+                assertThat(range).isNull();
+            } else {
+                assertThat(range).isNotNull();
+                assertThat(range.getFromNode().getId()).isEqualTo(oldOwner.getId());
+                assertThat(range.getToNode().getId()).isEqualTo(newOwner.getId());
+            }
+        }
+
+        // 제거 미리보기는 제거할 노드에서만 나가는 구간
+        List<MovedRange> removal = consistentHash.previewRemoveNode("diff_server_2");
+        assertThat(removal).isNotEmpty();
+        assertThat(removal).allMatch(range -> range.getFromNode().getId().equals("diff_server_2"));
+        assertThat(consistentHash.previewRemoveNode("missing_server")).isEmpty();
+        assertThat(consistentHash.getNodeCount()).isEqualTo(6);
+
+        System.out.println("✅ 이동 구간 계산 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("낙관적 읽기 모드 조회 결과 일치 및 변경 중 조회 테스트")
+    @Execution(ExecutionMode.SAME_THREAD)
+    void testOptimisticConcurrencyMode() throws InterruptedException {
+        // Given: 같은 변경을 적용한 스냅샷 모드와 낙관적 읽기 모드
+        ConsistentHash optimistic = new ConsistentHash(ConsistentHash.DEFAULT_VIRTUAL_NODES,
+                consistentHash.getHashFunction(), TokenAllocation.HASHED, ConcurrencyMode.OPTIMISTIC);
+        for (ConsistentHash ring : List.of(consistentHash, optimistic)) {
+            for (int i = 1; i <= 5; i++) {
+                ring.addNode(new Node("optimistic_server_" + i));
+            }
+            ring.updateWeight("optimistic_server_2", 3);
+            ring.removeNode("optimistic_server_4");
+            ring.updateWeight("optimistic_server_2", 1);
+        }
+
+        // Then: 조회 결과, 스냅샷, 변경 번호가 같음
+        for (int i = 0; i < 5000; i++) {
+            String key = "optimistic_key_" + i;
+            assertThat(optimistic.getNode(key)).isEqualTo(consistentHash.getNode(key));
+        }
+        assertThat(optimistic.getEpoch()).isEqualTo(consistentHash.getEpoch());
+        assertThat(optimistic.getSnapshot().size()).isEqualTo(consistentHash.getSnapshot().size());
+        assertThat(optimistic.getOwnership()).isEqualTo(consistentHash.getOwnership());
+
+        // When: 노드를 계속 추가/제거하는 동안 조회
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Throwable> exceptions = Collections.synchronizedList(new ArrayList<>());
+        Set<String> stableNodes = Set.of("optimistic_server_1", "optimistic_server_2",
+                "optimistic_server_3", "optimistic_server_5");
+
+        for (int t = 0; t < 3; t++) {
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; running.get(); i = (i + 1) % 10000) {
+                        Node node = optimistic.getNode("optimistic_key_" + i);
+                        if (node == null) {
+                            throw new AssertionError("변경 중 담당 노드를 찾지 못함");
+                        }
+                    }
+                } catch (Throwable e) {
+                    exceptions.add(e);
+                }
+            });
+        }
+        for (int round = 0; round < 200; round++) {
+            optimistic.addNode(new Node("churn_server_" + round));
+            optimistic.removeNode("churn_server_" + round);
+        }
+        running.set(false);
+        executor.shutdown();
+
+        // Then: 오류 없이 조회되고 변경이 끝나면 안정 노드만 남음
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(exceptions).isEmpty();
+        for (int i = 0; i < 5000; i++) {
+            String key = "optimistic_key_" + i;
+            assertThat(stableNodes).contains(optimistic.getNode(key).getId());
+            assertThat(optimistic.getNode(key)).isEqualTo(consistentHash.getNode(key));
+        }
+
+        System.out.println("✅ 낙관적 읽기 모드 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("노드 일괄 변경을 하나의 변경 번호로 적용하는지 테스트")
+    void testBatchMembershipChange() {
+        // Given
+        ConsistentHash sequential = new ConsistentHash();
+        for (int i = 1; i <= 3; i++) {
+            consistentHash.addNode(new Node("batch_server_" + i));
+            sequential.addNode(new Node("batch_server_" + i));
+        }
+        List<RingDelta> deltas = new ArrayList<>();
+        consistentHash.addDeltaListener(deltas::add);
+        long initial = consistentHash.getEpoch();
+
+        // When: 1번 제거, 2번 호스트 교체, 4~8번 추가를 한 번에 적용
+        List<Node> additions = new ArrayList<>();
+        additions.add(new Node("batch_server_2", "10.0.0.2", 9090));
+        for (int i = 4; i <= 8; i++) {
+            additions.add(new Node("batch_server_" + i));
+        }
+        additions.add(new Node("batch_server_3")); // 이미 존재하는 노드는 무시
+        consistentHash.replaceNodes(List.of("batch_server_1", "batch_server_2", "missing_server"), additions);
+
+        sequential.removeNode("batch_server_1");
+        sequential.removeNode("batch_server_2");
+        sequential.addNodes(additions);
+
+        // Then: 변경 번호는 한 번만 증가하고 하나의 일괄 변경분으로 전달됨
+        assertThat(consistentHash.getEpoch()).isEqualTo(initial + 1);
+        assertThat(consistentHash.getNodeCount()).isEqualTo(7);
+        assertThat(deltas).hasSize(1);
+        RingDelta batch = deltas.get(0);
+        assertThat(batch.getType()).isEqualTo(RingDelta.Type.BATCH);
+        assertThat(batch.getEpoch()).isEqualTo(initial + 1);
+        assertThat(batch.getChanges()).hasSize(8);
+        assertThat(batch.getChanges().get(0).getType()).isEqualTo(RingDelta.Type.NODE_REMOVED);
+        assertThat(batch.getChanges().get(2).getType()).isEqualTo(RingDelta.Type.NODE_ADDED);
+        assertThat(batch.getChanges().get(2).getNode().getHost()).isEqualTo("10.0.0.2");
+
+        // 하나씩 적용한 링과 같은 결과
+        for (int i = 0; i < 5000; i++) {
+            String key = "batch_key_" + i;
+            assertThat(consistentHash.getNode(key)).isEqualTo(sequential.getNode(key));
+        }
+
+        // 변경할 것이 없으면 변경 번호 유지
+        consistentHash.removeNodes(List.of("missing_server"));
+        assertThat(consistentHash.getEpoch()).isEqualTo(initial + 1);
+
+        System.out.println("✅ 노드 일괄 변경 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("대량 노드 일괄 추가 시 정렬 병합 결과가 개별 추가와 일치하는지 테스트")
+    void testBulkAdditionMerge() {
+        // Given: 토큰이 자주 충돌하도록 16비트로 줄인 해시 함수
+        HashFunction narrow = narrowHashFunction(0xFFFF);
+
+        for (HashFunction function : List.of(Murmur3HashFunction.INSTANCE, narrow)) {
+            ConsistentHash bulk = new ConsistentHash(ConsistentHash.DEFAULT_VIRTUAL_NODES, function);
+            ConsistentHash sequential = new ConsistentHash(ConsistentHash.DEFAULT_VIRTUAL_NODES, function);
+            List<Node> first = new ArrayList<>();
+            List<Node> second = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                first.add(new Node("bulk_server_" + i));
+            }
+            for (int i = 200; i < 300; i++) {
+                second.add(new Node("bulk_server_" + i));
+            }
+
+            // When: 빈 링에 한 번, 기존 링에 한 번 병합
+            bulk.addNodes(first);
+            bulk.addNodes(second);
+            first.forEach(sequential::addNode);
+            second.forEach(sequential::addNode);
+
+            // Then: 토큰과 소유 노드가 모두 같음
+            RingSnapshot expected = sequential.getSnapshot();
+            RingSnapshot actual = bulk.getSnapshot();
+            assertThat(actual.size()).isEqualTo(expected.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(actual.tokenAt(i)).isEqualTo(expected.tokenAt(i));
+                assertThat(actual.ownerAt(i)).isEqualTo(expected.ownerAt(i));
+            }
+
+            // 병합으로 추가한 노드도 제거 가능
+            bulk.removeNodes(List.of("bulk_server_0", "bulk_server_250"));
+            sequential.removeNode("bulk_server_0");
+            sequential.removeNode("bulk_server_250");
+            assertThat(bulk.getSnapshot().size()).isEqualTo(sequential.getSnapshot().size());
+            for (int i = 0; i < 5000; i++) {
+                String key = "bulk_key_" + i;
+                assertThat(bulk.getNode(key)).isEqualTo(sequential.getNode(key));
+            }
+        }
+
+        System.out.println("✅ 대량 일괄 추가 병합 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("토큰 충돌 시 합류 순서와 무관한 소유자 결정 및 제거 후 승계 테스트")
+    void testTokenCollisionResolution() {
+        // Given: 토큰 256개 공간에 노드당 가상 노드 150개 (대부분의 토큰이 충돌)
+        HashFunction narrow = narrowHashFunction(0xFF);
+        List<Node> members = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            members.add(new Node("collision_server_" + i));
+        }
+
+        for (ConcurrencyMode mode : ConcurrencyMode.values()) {
+            ConsistentHash forward = new ConsistentHash(ConsistentHash.DEFAULT_VIRTUAL_NODES, narrow,
+                    TokenAllocation.HASHED, mode);
+            ConsistentHash reverse = new ConsistentHash(ConsistentHash.DEFAULT_VIRTUAL_NODES, narrow,
+                    TokenAllocation.HASHED, mode);
+
+            // When: 반대 순서로 합류
+            members.forEach(forward::addNode);
+            for (int i = members.size() - 1; i >= 0; i--) {
+                reverse.addNode(members.get(i));
+            }
+
+            // Then: 같은 링 (겹친 토큰은 ID가 작은 노드가 소유)
+            assertSameRing(forward, reverse);
+            RingSnapshot snapshot = forward.getSnapshot();
+            for (int i = 0; i < snapshot.size(); i++) {
+                if (snapshot.ownerAt(i).getId().equals("collision_server_6")) {
+                    long token = snapshot.tokenAt(i);
+                    for (int n = 1; n <= 5; n++) {
+                        assertThat(hashesTo(narrow, "collision_server_" + n, token)).isFalse();
+                    }
+                }
+            }
+
+            // When: 다른 노드와 토큰을 공유하던 노드 제거
+            forward.removeNode("collision_server_1");
+            assertLookupsMatchSnapshot(forward, narrow);
+            forward.removeNode("collision_server_4");
+            assertLookupsMatchSnapshot(forward, narrow);
+            forward.updateWeight("collision_server_2", 2);
+            forward.updateWeight("collision_server_2", 1);
+
+            ConsistentHash fresh = new ConsistentHash(ConsistentHash.DEFAULT_VIRTUAL_NODES, narrow,
+                    TokenAllocation.HASHED, mode);
+            members.stream()
+                    .filter(node -> !Set.of("collision_server_1", "collision_server_4").contains(node.getId()))
+                    .forEach(fresh::addNode);
+
+            // Then: 남은 노드의 토큰은 대기 소유자가 이어받아 처음부터 만든 링과 같음
+            assertSameRing(forward, fresh);
+        }
+
+        System.out.println("✅ 토큰 충돌 처리 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("멤버십 변경 이벤트 비동기 전달 테스트")
+    void testRingEventListener() throws InterruptedException {
+        // Given: 이벤트 수집 수신자와 항상 실패하는 수신자
+        BlockingQueue<RingEvent> events = new LinkedBlockingQueue<>();
+        consistentHash.addEventListener(events::add);
+        consistentHash.addEventListener(event -> {
+            throw new IllegalStateException("수신자 오류");
+        });
+        long initial = consistentHash.getEpoch();
+
+        // When
+        consistentHash.addNode(new Node("event_server_1"));
+        consistentHash.addNode(new Node("event_server_2"));
+        double addedShare = consistentHash.getSnapshot().getOwnership().get("event_server_2");
+        consistentHash.updateWeight("event_server_2", 2);
+        double grownShare = consistentHash.getSnapshot().getOwnership().get("event_server_2") - addedShare;
+        double removedShare = consistentHash.getSnapshot().getOwnership().get("event_server_1");
+        consistentHash.removeNode("event_server_1");
+        consistentHash.replaceNodes(List.of("event_server_2"),
+                List.of(new Node("event_server_3"), new Node("event_server_4")));
+
+        List<RingEvent> received = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            RingEvent event = events.poll(5, TimeUnit.SECONDS);
+            assertThat(event).isNotNull();
+            received.add(event);
+        }
+
+        // Then: 변경 순서대로 전달되고 이동 비율은 스냅샷 점유율과 일치
+        for (int i = 0; i < received.size(); i++) {
+            assertThat(received.get(i).getEpoch()).isEqualTo(initial + i + 1);
+            assertThat(received.get(i).getDurationNanos()).isPositive();
+        }
+        assertThat(received.get(0).getType()).isEqualTo(RingDelta.Type.NODE_ADDED);
+        assertThat(received.get(0).getMovedShare()).isCloseTo(1.0, within(1e-9));
+        assertThat(received.get(1).getNodeId()).isEqualTo("event_server_2");
+        assertThat(received.get(1).getVirtualNodeCount()).isEqualTo(ConsistentHash.DEFAULT_VIRTUAL_NODES);
+        assertThat(received.get(1).getMovedShare()).isCloseTo(addedShare, within(1e-9));
+
+        RingEvent weightChanged = received.get(2);
+        assertThat(weightChanged.getType()).isEqualTo(RingDelta.Type.WEIGHT_CHANGED);
+        assertThat(weightChanged.getPreviousWeight()).isEqualTo(1);
+        assertThat(weightChanged.getWeight()).isEqualTo(2);
+        assertThat(weightChanged.getMovedShare()).isCloseTo(grownShare, within(1e-9));
+
+        assertThat(received.get(3).getType()).isEqualTo(RingDelta.Type.NODE_REMOVED);
+        assertThat(received.get(3).getMovedShare()).isCloseTo(removedShare, within(1e-9));
+
+        RingEvent batch = received.get(4);
+        assertThat(batch.getType()).isEqualTo(RingDelta.Type.BATCH);
+        assertThat(batch.getRemovedNodeCount()).isEqualTo(1);
+        assertThat(batch.getAddedNodeCount()).isEqualTo(2);
+        assertThat(batch.getMovedShare()).isCloseTo(1.0, within(1e-9));
+
+        // Given: 전달을 막고 있는 느린 수신자
+        ConsistentHash churning = new ConsistentHash(1, Murmur3HashFunction.INSTANCE);
+        CountDownLatch release = new CountDownLatch(1);
+        churning.addEventListener(event -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // When: 전달 큐 용량보다 많은 변경
+        long start = System.nanoTime();
+        for (int i = 0; i < 2000; i++) {
+            churning.addNode(new Node("churn_server_" + i));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        // Then: 변경은 막히지 않고 넘친 이벤트만 버려짐
+        assertThat(churning.getNodeCount()).isEqualTo(2000);
+        assertThat(churning.getDroppedEventCount()).isPositive();
+        assertThat(elapsedMillis).isLessThan(5000L);
+
+        System.out.println("✅ 멤버십 변경 이벤트 테스트 통과");
+    }
+
+    private static void assertSameRing(ConsistentHash actual, ConsistentHash expected) {
+        RingSnapshot actualSnapshot = actual.getSnapshot();
+        RingSnapshot expectedSnapshot = expected.getSnapshot();
+        assertThat(actualSnapshot.size()).isEqualTo(expectedSnapshot.size());
+        for (int i = 0; i < expectedSnapshot.size(); i++) {
+            assertThat(actualSnapshot.tokenAt(i)).isEqualTo(expectedSnapshot.tokenAt(i));
+            assertThat(actualSnapshot.ownerAt(i).getId()).isEqualTo(expectedSnapshot.ownerAt(i).getId());
+        }
+        for (int i = 0; i < 1000; i++) {
+            String key = "collision_key_" + i;
+            assertThat(actual.getNode(key).getId()).isEqualTo(expected.getNode(key).getId());
+        }
+    }
+
+    /**
+     * 조회 경로(낙관적 읽기 모드면 StampedRing)가 스냅샷과 같은 노드를 돌려주는지 확인
+     */
+    private static void assertLookupsMatchSnapshot(ConsistentHash ring, HashFunction function) {
+        RingSnapshot snapshot = ring.getSnapshot();
+        for (int i = 0; i < 2000; i++) {
+            String key = "collision_key_" + i;
+            assertThat(ring.getNode(key).getId()).isEqualTo(snapshot.getNode(function.hash(key)).getId());
+        }
+    }
+
+    private static boolean hashesTo(HashFunction function, String nodeId, long token) {
+        for (int i = 0; i < ConsistentHash.DEFAULT_VIRTUAL_NODES; i++) {
+            if (function.hash(nodeId + "#" + i) == token) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 토큰 충돌을 일으키기 위해 Murmur3 해시를 mask 범위로 줄인 해시 함수
+     */
+    private static HashFunction narrowHashFunction(long mask) {
+        return new HashFunction() {
+            @Override
+            public String name() {
+                return "narrow";
+            }
+
+            @Override
+            public long hash(byte[] data, int offset, int length) {
+                return Murmur3HashFunction.INSTANCE.hash(data, offset, length) & mask;
+            }
+
+            @Override
+            public long hash(ByteBuffer buffer) {
+                return Murmur3HashFunction.INSTANCE.hash(buffer) & mask;
+            }
+        };
+    }
+}
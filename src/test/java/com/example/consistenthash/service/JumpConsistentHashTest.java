@@ -0,0 +1,113 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+import com.example.consistenthash.service.hash.Murmur3HashFunction;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JumpConsistentHashTest {
+
+    private JumpConsistentHash jumpHash;
+
+    @BeforeEach
+    void setUp() {
+        jumpHash = new JumpConsistentHash(Murmur3HashFunction.INSTANCE);
+    }
+
+    @Test
+    @DisplayName("Jump 해시 데이터 분산 균등성 테스트")
+    void testDataDistribution() {
+        // Given
+        for (int i = 1; i <= 10; i++) {
+            jumpHash.addNode(new Node("bucket" + i));
+        }
+
+        // When
+        Map<String, Integer> distribution = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            distribution.merge(jumpHash.getNode("key_" + i).getId(), 1, Integer::sum);
+        }
+
+        // Then: 가상 노드 없이도 각 노드가 10% ± 1% 범위
+        assertThat(distribution).hasSize(10);
+        distribution.values().forEach(count -> assertThat(count).isBetween(9000, 11000));
+    }
+
+    @Test
+    @DisplayName("버킷 추가 시 새 버킷으로만 키가 이동")
+    void testMinimalMovementOnAppend() {
+        // Given
+        for (int i = 1; i <= 9; i++) {
+            jumpHash.addNode(new Node("bucket" + i));
+        }
+        Map<String, String> before = new HashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            before.put("key_" + i, jumpHash.getNode("key_" + i).getId());
+        }
+
+        // When
+        jumpHash.addNode(new Node("bucket10"));
+
+        // Then: 이동한 키는 모두 새 버킷으로 가며, 약 1/10만 이동
+        int moved = 0;
+        for (Map.Entry<String, String> entry : before.entrySet()) {
+            String after = jumpHash.getNode(entry.getKey()).getId();
+            if (!after.equals(entry.getValue())) {
+                assertThat(after).isEqualTo("bucket10");
+                moved++;
+            }
+        }
+        assertThat(moved).isBetween(800, 1200);
+    }
+
+    @Test
+    @DisplayName("마지막 노드만 제거 가능")
+    void testRemoveOnlyLastBucket() {
+        // Given
+        jumpHash.addNode(new Node("bucket1"));
+        jumpHash.addNode(new Node("bucket2"));
+        jumpHash.addNode(new Node("bucket3"));
+
+        // When & Then
+        assertThatThrownBy(() -> jumpHash.removeNode("bucket1"))
+                .isInstanceOf(IllegalStateException.class);
+
+        jumpHash.removeNode("bucket3");
+        jumpHash.removeNode("non_existent");
+        assertThat(jumpHash.getNodeCount()).isEqualTo(2);
+
+        jumpHash.clear();
+        assertThat(jumpHash.getNode("any_key")).isNull();
+    }
+
+    @Test
+    @DisplayName("일괄 변경 중 허용되지 않는 제거가 있으면 아무것도 적용하지 않음")
+    void testFailingBatchLeavesNodesUnchanged() {
+        // Given
+        for (int i = 1; i <= 4; i++) {
+            jumpHash.addNode(new Node("bucket" + i));
+        }
+        Map<String, String> before = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            before.put("key_" + i, jumpHash.getNode("key_" + i).getId());
+        }
+
+        // When: bucket4 제거 후 bucket2는 마지막이 아니므로 실패
+        assertThatThrownBy(() -> jumpHash.replaceNodes(List.of("bucket4", "bucket2"), List.of(new Node("bucket5"))))
+                .isInstanceOf(IllegalStateException.class);
+
+        // Then: 앞서 처리한 bucket4 제거와 추가도 적용되지 않음
+        assertThat(jumpHash.getNodeCount()).isEqualTo(4);
+        before.forEach((key, nodeId) -> assertThat(jumpHash.getNode(key).getId()).isEqualTo(nodeId));
+
+        // When: 끝에서부터 차례로 제거하는 일괄 변경은 성공
+        jumpHash.replaceNodes(List.of("bucket4", "bucket3"), List.of(new Node("bucket5"), new Node("bucket5")));
+
+        // Then
+        assertThat(jumpHash.getNodeCount()).isEqualTo(3);
+        assertThat(jumpHash.getRingInfo().get("노드목록")).isEqualTo(List.of("bucket1", "bucket2", "bucket5"));
+    }
+}
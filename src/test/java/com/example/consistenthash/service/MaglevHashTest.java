@@ -0,0 +1,80 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+import com.example.consistenthash.service.hash.Murmur3HashFunction;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MaglevHashTest {
+
+    private MaglevHash maglev;
+
+    @BeforeEach
+    void setUp() {
+        maglev = new MaglevHash(Murmur3HashFunction.INSTANCE);
+    }
+
+    @Test
+    @DisplayName("Maglev 테이블 데이터 분산 균등성 테스트")
+    void testDataDistribution() throws InterruptedException {
+        // Given
+        for (int i = 1; i <= 10; i++) {
+            maglev.addNode(new Node("server" + i));
+        }
+        assertThat(maglev.awaitRebuild(10, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        Map<String, Integer> distribution = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            distribution.merge(maglev.getNode("key_" + i).getId(), 1, Integer::sum);
+        }
+
+        // Then: 테이블 칸이 거의 균등하게 나뉘므로 각 노드 10% ± 1%
+        assertThat(distribution).hasSize(10);
+        distribution.values().forEach(count -> assertThat(count).isBetween(9000, 11000));
+    }
+
+    @Test
+    @DisplayName("노드 제거 시 제거된 노드의 키 위주로만 이동")
+    void testMinimalDisruptionOnRemoval() throws InterruptedException {
+        // Given
+        for (int i = 1; i <= 10; i++) {
+            maglev.addNode(new Node("server" + i));
+        }
+        maglev.awaitRebuild(10, TimeUnit.SECONDS);
+
+        Map<String, String> before = new HashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            before.put("key_" + i, maglev.getNode("key_" + i).getId());
+        }
+
+        // When
+        maglev.removeNode("server5");
+        maglev.awaitRebuild(10, TimeUnit.SECONDS);
+
+        // Then: 다른 노드에 있던 키의 이동은 소수여야 함
+        int unnecessaryMoves = 0;
+        for (Map.Entry<String, String> entry : before.entrySet()) {
+            String after = maglev.getNode(entry.getKey()).getId();
+            assertThat(after).isNotEqualTo("server5");
+            if (!entry.getValue().equals("server5") && !after.equals(entry.getValue())) {
+                unnecessaryMoves++;
+            }
+        }
+        assertThat(unnecessaryMoves).isLessThan(500); // 5% 미만
+    }
+
+    @Test
+    @DisplayName("테이블 크기 검증 및 빈 테이블 조회")
+    void testTableSizeAndEmptyTable() {
+        assertThatThrownBy(() -> new MaglevHash(Murmur3HashFunction.INSTANCE, 65536))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(maglev.getNode("any_key")).isNull();
+        assertThat(maglev.getTableSize()).isEqualTo(MaglevHash.DEFAULT_TABLE_SIZE);
+    }
+}
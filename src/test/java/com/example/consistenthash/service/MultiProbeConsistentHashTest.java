@@ -0,0 +1,106 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+import com.example.consistenthash.service.hash.Murmur3HashFunction;
+import com.example.consistenthash.service.hash.Sha1HashFunction;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MultiProbeConsistentHashTest {
+
+    private MultiProbeConsistentHash multiProbe;
+
+    @BeforeEach
+    void setUp() {
+        multiProbe = new MultiProbeConsistentHash(Murmur3HashFunction.INSTANCE);
+    }
+
+    @Test
+    @DisplayName("노드당 토큰 하나로 가상 노드 수준의 분산 균등성 달성")
+    void testDataDistribution() {
+        // Given
+        for (int i = 1; i <= 100; i++) {
+            multiProbe.addNode(new Node("server" + i));
+        }
+
+        // When
+        Map<String, Integer> distribution = new HashMap<>();
+        int keyCount = 500000;
+        for (int i = 0; i < keyCount; i++) {
+            distribution.merge(multiProbe.getNode("key_" + i).getId(), 1, Integer::sum);
+        }
+
+        // Then: 링 크기는 노드 수와 같고, 최대/평균 부하는 1.15 미만
+        assertThat(multiProbe.getRingInfo().get("가상노드수")).isEqualTo(100);
+        assertThat(distribution).hasSize(100);
+        int max = Collections.max(distribution.values());
+        assertThat(max / (keyCount / 100.0)).isLessThan(1.15);
+    }
+
+    @Test
+    @DisplayName("음수가 아닌 해시(기존 SHA-1)에서도 탐침이 키 공간 안에서 균등 분산")
+    void testNonNegativeHashDistribution() {
+        // Given: 토큰이 [0, 2^63)에만 놓이는 해시 함수
+        MultiProbeConsistentHash legacy = new MultiProbeConsistentHash(Sha1HashFunction.INSTANCE);
+        for (int i = 1; i <= 100; i++) {
+            legacy.addNode(new Node("server" + i));
+        }
+
+        // When
+        Map<String, Integer> distribution = new HashMap<>();
+        int keyCount = 500000;
+        for (int i = 0; i < keyCount; i++) {
+            distribution.merge(legacy.getNode("key_" + i).getId(), 1, Integer::sum);
+        }
+
+        // Then: 탐침이 빈 절반 공간에 떨어져 버려지지 않으므로 64비트 해시와 같은 수준(최대/평균 1.1 미만)
+        assertThat(distribution).hasSize(100);
+        int max = Collections.max(distribution.values());
+        assertThat(max / (keyCount / 100.0)).isLessThan(1.1);
+    }
+
+    @Test
+    @DisplayName("노드 추가/제거 시 해당 노드의 키만 이동")
+    void testMinimalDisruption() {
+        // Given
+        for (int i = 1; i <= 10; i++) {
+            multiProbe.addNode(new Node("server" + i));
+        }
+        Map<String, String> before = new HashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            before.put("key_" + i, multiProbe.getNode("key_" + i).getId());
+        }
+
+        // When
+        multiProbe.removeNode("server5");
+        multiProbe.addNode(new Node("server11"));
+
+        // Then
+        for (Map.Entry<String, String> entry : before.entrySet()) {
+            String after = multiProbe.getNode(entry.getKey()).getId();
+            assertThat(after).isNotEqualTo("server5");
+            if (!entry.getValue().equals("server5") && !after.equals("server11")) {
+                assertThat(after).isEqualTo(entry.getValue());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("복제본 조회 및 빈 링 처리")
+    void testReplicasAndEmptyRing() {
+        assertThat(multiProbe.getNode("any_key")).isNull();
+        assertThat(multiProbe.getReplicas("any_key", 3)).isEmpty();
+
+        for (int i = 1; i <= 5; i++) {
+            multiProbe.addNode(new Node("server" + i));
+        }
+
+        List<Node> replicas = multiProbe.getReplicas("user:123", 3);
+        assertThat(replicas).hasSize(3);
+        assertThat(replicas.get(0)).isSameAs(multiProbe.getNode("user:123"));
+        assertThat(replicas.stream().map(Node::getId).distinct().count()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.consistenthash.service;
+
+import com.example.consistenthash.model.Node;
+import com.example.consistenthash.service.hash.Murmur3HashFunction;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RendezvousHashTest {
+
+    private RendezvousHash rendezvous;
+
+    @BeforeEach
+    void setUp() {
+        rendezvous = new RendezvousHash(Murmur3HashFunction.INSTANCE);
+    }
+
+    @Test
+    @DisplayName("랑데부 해시 데이터 분산 균등성 테스트")
+    void testDataDistribution() {
+        // Given
+        for (int i = 1; i <= 10; i++) {
+            rendezvous.addNode(new Node("server" + i));
+        }
+
+        // When
+        Map<String, Integer> distribution = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            distribution.merge(rendezvous.getNode("key_" + i).getId(), 1, Integer::sum);
+        }
+
+        // Then: 각 노드 10% ± 1%
+        assertThat(distribution).hasSize(10);
+        distribution.values().forEach(count -> assertThat(count).isBetween(9000, 11000));
+    }
+
+    @Test
+    @DisplayName("가중치에 비례한 키 분배")
+    void testWeightedDistribution() {
+        // Given: 가중치 1 : 2 : 5
+        rendezvous.addNode(new Node("small"), 1.0);
+        rendezvous.addNode(new Node("medium"), 2.0);
+        rendezvous.addNode(new Node("large"), 5.0);
+
+        // When
+        Map<String, Integer> distribution = new HashMap<>();
+        for (int i = 0; i < 80000; i++) {
+            distribution.merge(rendezvous.getNode("key_" + i).getId(), 1, Integer::sum);
+        }
+
+        // Then: 10000 : 20000 : 50000 ± 5%
+        assertThat(distribution.get("small")).isBetween(9000, 11000);
+        assertThat(distribution.get("medium")).isBetween(19000, 21000);
+        assertThat(distribution.get("large")).isBetween(48000, 52000);
+
+        assertThatThrownBy(() -> rendezvous.addNode(new Node("zero"), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("노드 추가/제거 시 해당 노드의 키만 이동")
+    void testMinimalDisruption() {
+        // Given
+        for (int i = 1; i <= 10; i++) {
+            rendezvous.addNode(new Node("server" + i));
+        }
+        Map<String, String> before = new HashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            before.put("key_" + i, rendezvous.getNode("key_" + i).getId());
+        }
+
+        // When
+        rendezvous.removeNode("server5");
+        rendezvous.addNode(new Node("server11"));
+
+        // Then: 제거된 노드의 키와 새 노드로 가는 키 외에는 이동 없음
+        for (Map.Entry<String, String> entry : before.entrySet()) {
+            String after = rendezvous.getNode(entry.getKey()).getId();
+            if (!entry.getValue().equals("server5") && !after.equals("server11")) {
+                assertThat(after).isEqualTo(entry.getValue());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("계층형 랑데부 해시 - 대규모 클러스터 분산 및 최소 이동")
+    void testSkeletonRendezvous() {
+        // Given: 1000개 노드
+        SkeletonRendezvousHash skeleton = new SkeletonRendezvousHash(Murmur3HashFunction.INSTANCE);
+        assertThat(skeleton.getNode("any_key")).isNull();
+        for (int i = 1; i <= 1000; i++) {
+            skeleton.addNode(new Node("server" + i));
+        }
+
+        Map<String, String> before = new HashMap<>();
+        Map<String, Integer> distribution = new HashMap<>();
+        for (int i = 0; i < 200000; i++) {
+            String nodeId = skeleton.getNode("key_" + i).getId();
+            before.put("key_" + i, nodeId);
+            distribution.merge(nodeId, 1, Integer::sum);
+        }
+
+        // Then: 평균 200개, 모든 노드가 키를 받고 편차가 과도하지 않음
+        assertThat(distribution).hasSize(1000);
+        distribution.values().forEach(count -> assertThat(count).isBetween(100, 300));
+
+        // When
+        skeleton.removeNode("server500");
+        skeleton.addNode(new Node("server1001"));
+
+        // Then: 제거/추가된 노드와 무관한 키의 이동은 변경된 경로의 하위 트리로 한정되어 극소수
+        int unnecessaryMoves = 0;
+        for (Map.Entry<String, String> entry : before.entrySet()) {
+            String after = skeleton.getNode(entry.getKey()).getId();
+            if (!entry.getValue().equals("server500") && !after.equals("server1001")
+                    && !after.equals(entry.getValue())) {
+                unnecessaryMoves++;
+            }
+        }
+        assertThat(unnecessaryMoves).isLessThan(2000); // 1% 미만 (노드 하나의 몫은 0.1%)
+        assertThat(skeleton.getNodeCount()).isEqualTo(1000);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.consistenthash.service.hash;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HashFunctionTest {
+
+    @Test
+    @DisplayName("SHA-1 호환 모드는 기존 토큰 배치를 재현")
+    void testSha1LegacyCompatibility() {
+        // SHA-1("abc") = a9993e364706816a... → 앞 8바이트에 Math.abs 적용
+        long expected = Math.abs(0xa9993e364706816aL);
+
+        assertThat(Sha1HashFunction.INSTANCE.hash("abc")).isEqualTo(expected);
+        assertThat(Sha1HashFunction.INSTANCE.hash("server1#0")).isGreaterThanOrEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("SHA-1 64비트 모드는 다이제스트 앞 8바이트를 그대로 사용")
+    void testSha1FullRange() {
+        // SHA-1("abc") = a9993e364706816a... → 음수 값 그대로
+        assertThat(Sha1HashFunction.FULL_RANGE.hash("abc")).isEqualTo(0xa9993e364706816aL);
+        assertThat(Sha1HashFunction.FULL_RANGE.nonNegative()).isFalse();
+        assertThat(Sha1HashFunction.INSTANCE.nonNegative()).isTrue();
+        assertThat(HashFunction.of("sha1-64")).isSameAs(Sha1HashFunction.FULL_RANGE);
+        assertThat(HashFunction.of("sha1")).isSameAs(Sha1HashFunction.INSTANCE);
+    }
+
+    @Test
+    @DisplayName("Murmur3 128비트 참조 값 검증")
+    void testMurmur3ReferenceValues() {
+        String fox = "The quick brown fox jumps over the lazy dog";
+
+        assertThat(Murmur3HashFunction.INSTANCE.hash("")).isEqualTo(0L);
+        assertThat(Murmur3HashFunction.INSTANCE.hash(fox)).isEqualTo(0xe34bbc7bbc071b6cL);
+    }
+
+    @Test
+    @DisplayName("xxHash64 참조 값 검증")
+    void testXxHash64ReferenceValues() {
+        assertThat(XxHash64HashFunction.INSTANCE.hash("")).isEqualTo(0xEF46DB3751D8E999L);
+        assertThat(XxHash64HashFunction.INSTANCE.hash("abc")).isEqualTo(0x44BC2CF5AD770999L);
+    }
+
+    @Test
+    @DisplayName("바이트 배열 구간 해시는 동일한 내용의 전체 해시와 같음")
+    void testOffsetHashing() {
+        byte[] padded = "__0123456789abcdef0123456789abcdef__".getBytes(StandardCharsets.UTF_8);
+        byte[] exact = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+        for (String name : new String[]{"sha1", "sha1-64", "murmur3", "xxhash64"}) {
+            HashFunction function = HashFunction.of(name);
+            assertThat(function.hash(padded, 2, exact.length)).isEqualTo(function.hash(exact));
+        }
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 해시 함수 이름")
+    void testUnknownHashFunction() {
+        assertThat(HashFunction.of(" Murmur3 ")).isSameAs(Murmur3HashFunction.INSTANCE);
+        assertThatThrownBy(() -> HashFunction.of("md5"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("CharSequence 해시는 UTF-8 바이트 해시와 같음")
+    void testCharSequenceMatchesUtf8Bytes() {
+        String[] keys = {"", "user:123", "서울-서버#7", "emoji-😀-key", "broken-\uD800-surrogate"};
+
+        for (String name : new String[]{"sha1", "sha1-64", "murmur3", "xxhash64"}) {
+            HashFunction function = HashFunction.of(name);
+            for (String key : keys) {
+                long expected = function.hash(key.getBytes(StandardCharsets.UTF_8));
+                assertThat(function.hash(key)).isEqualTo(expected);
+                assertThat(function.hash(new StringBuilder(key))).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("ByteBuffer 해시는 position을 유지하고 byte[] 해시와 같음")
+    void testByteBufferMatchesByteArray() {
+        for (String name : new String[]{"sha1", "sha1-64", "murmur3", "xxhash64"}) {
+            HashFunction function = HashFunction.of(name);
+
+            for (int length = 0; length <= 70; length++) {
+                byte[] data = new byte[length];
+                for (int i = 0; i < length; i++) {
+                    data[i] = (byte) (i * 31 + length);
+                }
+                long expected = function.hash(data);
+
+                // 다이렉트 버퍼 (빅 엔디안 기본 순서, 앞에 3바이트 여유)
+                ByteBuffer direct = ByteBuffer.allocateDirect(length + 3);
+                direct.position(3);
+                direct.put(data);
+                direct.position(3);
+
+                // 힙 버퍼 (slice로 arrayOffset 적용)
+                ByteBuffer heap = ByteBuffer.allocate(length + 5).order(ByteOrder.LITTLE_ENDIAN);
+                heap.position(5);
+                ByteBuffer slice = heap.slice();
+                slice.put(data).flip();
+
+                assertThat(function.hash(direct)).isEqualTo(expected);
+                assertThat(direct.position()).isEqualTo(3);
+                assertThat(function.hash(slice)).isEqualTo(expected);
+                assertThat(function.hash(slice.asReadOnlyBuffer())).isEqualTo(expected);
+            }
+        }
+    }
+}